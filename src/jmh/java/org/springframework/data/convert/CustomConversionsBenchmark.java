@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.data.convert.CustomConversions.StoreConversions;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+
+/**
+ * Benchmarks for custom conversion target lookups through {@link CustomConversions} with a large number of registered
+ * converters and polymorphic source types that are not registered directly.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomConversionsBenchmark {
+
+	@Param({ "10", "300" }) int converterCount;
+
+	ManyTypesConverter converter;
+	Class<?>[] sourceTypes;
+	CustomConversions conversions;
+
+	@Setup
+	public void setUp() {
+
+		Set<ConvertiblePair> pairs = new LinkedHashSet<>();
+
+		for (int i = 0; i < converterCount; i++) {
+			pairs.add(new ConvertiblePair(createType(), String.class));
+		}
+
+		pairs.add(new ConvertiblePair(Value.class, String.class));
+
+		this.converter = new ManyTypesConverter(pairs);
+		this.sourceTypes = new Class<?>[100];
+
+		for (int i = 0; i < sourceTypes.length; i++) {
+			sourceTypes[i] = createType();
+		}
+
+		this.conversions = createConversions();
+	}
+
+	@Benchmark
+	public void cachedLookups(Blackhole blackhole) {
+
+		for (Class<?> type : sourceTypes) {
+			blackhole.consume(conversions.getCustomWriteTarget(type));
+		}
+	}
+
+	@Benchmark
+	public void uncachedLookups(Blackhole blackhole) {
+
+		CustomConversions conversions = createConversions();
+
+		for (Class<?> type : sourceTypes) {
+			blackhole.consume(conversions.getCustomWriteTarget(type));
+			blackhole.consume(conversions.hasCustomWriteTarget(type, CharSequence.class));
+		}
+	}
+
+	private CustomConversions createConversions() {
+		return new CustomConversions(StoreConversions.of(SimpleTypeHolder.DEFAULT), Collections.singletonList(converter));
+	}
+
+	/**
+	 * Creates a new type implementing {@link Value}, every class loader defines its own proxy class.
+	 */
+	private Class<?> createType() {
+
+		ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+		return Proxy.getProxyClass(classLoader, Value.class);
+	}
+
+	public interface Value {}
+
+	@WritingConverter
+	static class ManyTypesConverter implements GenericConverter {
+
+		private final Set<ConvertiblePair> pairs;
+
+		ManyTypesConverter(Set<ConvertiblePair> pairs) {
+			this.pairs = pairs;
+		}
+
+		@Override
+		public Set<ConvertiblePair> getConvertibleTypes() {
+			return pairs;
+		}
+
+		@Override
+		public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			return source.toString();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mapping.Alias;
+import org.springframework.data.mapping.context.SampleMappingContext;
+
+/**
+ * Benchmarks for writing and reading type aliases of polymorphic entities through a {@link DefaultTypeMapper} backed by
+ * a {@link MappingContextTypeInformationMapper}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DefaultTypeMapperBenchmark {
+
+	static final Class<?>[] TYPES = { Circle.class, Square.class, Triangle.class, Unaliased.class };
+
+	DefaultTypeMapper<Map<String, Object>> typeMapper;
+	Map<String, Object>[] documents;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		SampleMappingContext context = new SampleMappingContext();
+		context.setInitialEntitySet(new HashSet<>(Arrays.asList(TYPES)));
+		context.initialize();
+
+		this.typeMapper = new DefaultTypeMapper<>(MapTypeAliasAccessor.INSTANCE, context, Collections.emptyList());
+		this.documents = new Map[TYPES.length];
+
+		for (int i = 0; i < TYPES.length; i++) {
+
+			documents[i] = new HashMap<>();
+			typeMapper.writeType(TYPES[i], documents[i]);
+		}
+	}
+
+	@Benchmark
+	public void writeType(Blackhole blackhole) {
+
+		for (Class<?> type : TYPES) {
+
+			Map<String, Object> document = new HashMap<>(2);
+			typeMapper.writeType(type, document);
+			blackhole.consume(document);
+		}
+	}
+
+	@Benchmark
+	public void readType(Blackhole blackhole) {
+
+		for (Map<String, Object> document : documents) {
+			blackhole.consume(typeMapper.readType(document));
+		}
+	}
+
+	enum MapTypeAliasAccessor implements TypeAliasAccessor<Map<String, Object>> {
+
+		INSTANCE;
+
+		@Override
+		public Alias readAliasFrom(Map<String, Object> source) {
+			return Alias.ofNullable(source.get("_class"));
+		}
+
+		@Override
+		public Object readRawAliasFrom(Map<String, Object> source) {
+			return source.get("_class");
+		}
+
+		@Override
+		public void writeTypeTo(Map<String, Object> sink, Object alias) {
+			sink.put("_class", alias);
+		}
+	}
+
+	@TypeAlias("circle")
+	static class Circle {}
+
+	@TypeAlias("square")
+	static class Square {}
+
+	@TypeAlias("triangle")
+	static class Triangle {}
+
+	static class Unaliased {}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+import org.springframework.data.mapping.model.BasicPersistentEntity;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+
+/**
+ * Benchmarks for {@link ClassGeneratingEntityInstantiator} compared to {@link ReflectionEntityInstantiator}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityInstantiatorBenchmark {
+
+	@Param({ "generated", "reflection" }) String instantiator;
+
+	EntityInstantiator entityInstantiator;
+	BasicPersistentEntity<Object, SamplePersistentProperty> noArgs, allArgs;
+	ParameterValueProvider<SamplePersistentProperty> provider;
+
+	@Setup
+	public void setUp() {
+
+		SampleMappingContext context = new SampleMappingContext();
+
+		this.noArgs = context.getRequiredPersistentEntity(NoArgsConstructor.class);
+		this.allArgs = context.getRequiredPersistentEntity(AllArgsConstructor.class);
+		this.entityInstantiator = "generated".equals(instantiator) ? new ClassGeneratingEntityInstantiator()
+				: ReflectionEntityInstantiator.INSTANCE;
+		this.provider = new ParameterValueProvider<SamplePersistentProperty>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T getParameterValue(Parameter<T, SamplePersistentProperty> parameter) {
+				return (T) ("age".equals(parameter.getName()) ? (Object) 42 : "Dave");
+			}
+		};
+	}
+
+	@Benchmark
+	public Object noArgsConstructor() {
+		return entityInstantiator.createInstance(noArgs, provider);
+	}
+
+	@Benchmark
+	public Object allArgsConstructor() {
+		return entityInstantiator.createInstance(allArgs, provider);
+	}
+
+	public static class NoArgsConstructor {
+
+		public String name;
+		public int age;
+	}
+
+	public static class AllArgsConstructor {
+
+		public final String name;
+		public final int age;
+
+		public AllArgsConstructor(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
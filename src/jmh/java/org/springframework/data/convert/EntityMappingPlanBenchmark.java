@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.CustomConversions.StoreConversions;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+import org.springframework.data.mapping.model.BasicPersistentEntity;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+
+/**
+ * Benchmarks for reading and writing entities through an {@link EntityMappingPlan} compared to iterating the
+ * properties of the entity and converting values through a {@link ConvertingPropertyAccessor}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityMappingPlanBenchmark {
+
+	BasicPersistentEntity<Object, SamplePersistentProperty> entity;
+	EntityInstantiator instantiator;
+	DefaultConversionService conversionService;
+	EntityMappingPlan<Object, SamplePersistentProperty> plan;
+
+	Person person;
+	KeyValueDocument document;
+
+	@Setup
+	public void setUp() {
+
+		SampleMappingContext context = new SampleMappingContext();
+		CustomConversions conversions = new CustomConversions(StoreConversions.NONE, Collections.emptyList());
+
+		this.entity = context.getRequiredPersistentEntity(Person.class);
+		this.instantiator = new EntityInstantiators().getInstantiatorFor(entity);
+		this.conversionService = new DefaultConversionService();
+		conversions.registerConvertersIn(conversionService);
+		this.plan = EntityMappingPlan.of(entity, conversions, conversionService);
+
+		this.person = new Person("Dave", "Matthews", 42);
+		this.person.locale = Locale.US;
+
+		Map<String, Object> map = new HashMap<>();
+		map.put("firstname", "Dave");
+		map.put("lastname", "Matthews");
+		map.put("age", 42L);
+		map.put("locale", Locale.US);
+		this.document = KeyValueDocument.of(map);
+	}
+
+	@Benchmark
+	public Object readWithPlan() {
+		return plan.read(document);
+	}
+
+	@Benchmark
+	public Object readWithPropertyIteration() {
+
+		PropertyValueProvider<SamplePersistentProperty> provider = new PropertyValueProvider<SamplePersistentProperty>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T getPropertyValue(SamplePersistentProperty property) {
+				return (T) conversionService.convert(document.get(property.getName()), property.getType());
+			}
+		};
+
+		Object instance = instantiator.createInstance(entity,
+				new PersistentEntityParameterValueProvider<>(entity, provider, null));
+		PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
+				conversionService);
+
+		entity.doWithProperties((PropertyHandler<SamplePersistentProperty>) property -> {
+
+			if (entity.isConstructorArgument(property)) {
+				return;
+			}
+
+			Object value = document.get(property.getName());
+
+			if (value != null) {
+				accessor.setProperty(property, value);
+			}
+		});
+
+		return instance;
+	}
+
+	@Benchmark
+	public Object writeWithPlan() {
+
+		KeyValueDocument sink = KeyValueDocument.of(new HashMap<>());
+		plan.write(person, sink);
+
+		return sink;
+	}
+
+	@Benchmark
+	public Object writeWithPropertyIteration() {
+
+		KeyValueDocument sink = KeyValueDocument.of(new HashMap<>());
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(person);
+
+		entity.doWithProperties((PropertyHandler<SamplePersistentProperty>) property -> {
+
+			Object value = accessor.getProperty(property);
+
+			if (value != null) {
+				sink.put(property.getName(), value);
+			}
+		});
+
+		return sink;
+	}
+
+	public static class Person {
+
+		public final String firstname, lastname;
+		public final int age;
+		public Locale locale;
+
+		public Person(String firstname, String lastname, int age) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+	}
+}
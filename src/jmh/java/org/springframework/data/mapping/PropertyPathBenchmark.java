@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link PropertyPath#from(String, Class)} for simple, nested and camel-case traversing paths.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyPathBenchmark {
+
+	@Benchmark
+	public Object simplePath() {
+		return PropertyPath.from("firstname", Person.class);
+	}
+
+	@Benchmark
+	public Object nestedDotPath() {
+		return PropertyPath.from("address.city.zipCode", Person.class);
+	}
+
+	@Benchmark
+	public Object nestedCamelCasePath() {
+		return PropertyPath.from("AddressCityZipCode", Person.class);
+	}
+
+	static class Person {
+
+		String firstname;
+		Address address;
+	}
+
+	static class Address {
+		City city;
+	}
+
+	static class City {
+		String zipCode;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+
+/**
+ * Benchmarks for {@link AbstractMappingContext#getPersistentEntity(TypeInformation)} lookups of known types, single
+ * threaded and with all available cores to verify lookups scale with the number of threads. Run with
+ * {@code -t <threads>} to obtain data points for individual thread counts.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingContextBenchmark {
+
+	SampleMappingContext context;
+	TypeInformation<?> known, simple;
+
+	@Setup
+	public void setUp() {
+
+		this.context = new SampleMappingContext();
+		this.known = ClassTypeInformation.from(Person.class);
+		this.simple = ClassTypeInformation.from(String.class);
+
+		context.getPersistentEntity(known);
+		context.getPersistentEntity(simple);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Object knownEntitySingleThreaded() {
+		return context.getPersistentEntity(known);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object knownEntityContended() {
+		return context.getPersistentEntity(known);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object simpleTypeContended() {
+		return context.getPersistentEntity(simple);
+	}
+
+	static class Person {
+
+		String firstname, lastname;
+		int age;
+	}
+}
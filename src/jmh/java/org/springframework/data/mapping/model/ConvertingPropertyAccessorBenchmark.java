@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+
+/**
+ * Benchmarks for {@link ConvertingPropertyAccessor} with and without actual conversion taking place.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConvertingPropertyAccessorBenchmark {
+
+	BasicPersistentEntity<Object, SamplePersistentProperty> entity;
+	SamplePersistentProperty name, age;
+	ConvertingPropertyAccessor accessor;
+
+	@Setup
+	public void setUp() {
+
+		SampleMappingContext context = new SampleMappingContext();
+
+		this.entity = context.getRequiredPersistentEntity(Person.class);
+		this.name = entity.getRequiredPersistentProperty("name");
+		this.age = entity.getRequiredPersistentProperty("age");
+		this.accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(new Person()),
+				new DefaultConversionService());
+	}
+
+	@Benchmark
+	public Object setPropertyWithMatchingType() {
+
+		accessor.setProperty(name, "Dave");
+
+		return accessor.getBean();
+	}
+
+	@Benchmark
+	public Object setPropertyWithConversion() {
+
+		accessor.setProperty(age, "42");
+
+		return accessor.getBean();
+	}
+
+	@Benchmark
+	public Object getPropertyWithConversion() {
+		return accessor.getProperty(age, String.class);
+	}
+
+	public static class Person {
+
+		public String name;
+		public Integer age;
+	}
+}
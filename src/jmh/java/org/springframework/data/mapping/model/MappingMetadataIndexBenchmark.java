@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.beans.Introspector;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.CachedIntrospectionResults;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+
+/**
+ * Benchmarks comparing the first-time discovery of {@link java.beans.PropertyDescriptor}s and constructor parameter
+ * names for a type through reflective introspection with the lookup from a {@link MappingMetadataIndex}, including the
+ * computation of the type's signature to verify the index entries. All caches involved are reset per invocation.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingMetadataIndexBenchmark {
+
+	Properties entries;
+	Constructor<?> constructor;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		this.entries = new Properties();
+		this.entries.putAll(new MappingMetadataIndexWriter().createEntries(Collections.singleton(Person.class)));
+		this.constructor = Person.class.getDeclaredConstructor(String.class, String.class, int.class);
+	}
+
+	@Benchmark
+	public void reflective(Blackhole blackhole) {
+
+		Introspector.flushFromCaches(Person.class);
+		CachedIntrospectionResults.clearClassLoader(Person.class.getClassLoader());
+
+		blackhole.consume(BeanUtils.getPropertyDescriptors(Person.class));
+		blackhole.consume(new DefaultParameterNameDiscoverer().getParameterNames(constructor));
+	}
+
+	@Benchmark
+	public void indexed(Blackhole blackhole) {
+
+		MappingMetadataIndex index = new MappingMetadataIndex(entries);
+
+		blackhole.consume(index.getPropertyDescriptors(Person.class));
+		blackhole.consume(index.getParameterNames(constructor));
+	}
+
+	public static class Person {
+
+		private final String firstname, lastname;
+		private int age;
+
+		public Person(String firstname, String lastname, int age) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+
+/**
+ * Benchmarks for {@link ClassGeneratingPropertyAccessorFactory} compared to {@link BeanWrapperPropertyAccessorFactory}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistentPropertyAccessorBenchmark {
+
+	@Param({ "generated", "beanwrapper" }) String factory;
+
+	PersistentPropertyAccessorFactory accessorFactory;
+	BasicPersistentEntity<Object, SamplePersistentProperty> entity;
+	SamplePersistentProperty name, age;
+	Person person;
+
+	@Setup
+	public void setUp() {
+
+		SampleMappingContext context = new SampleMappingContext();
+
+		this.entity = context.getRequiredPersistentEntity(Person.class);
+		this.name = entity.getRequiredPersistentProperty("name");
+		this.age = entity.getRequiredPersistentProperty("age");
+		this.accessorFactory = "generated".equals(factory) ? new ClassGeneratingPropertyAccessorFactory()
+				: BeanWrapperPropertyAccessorFactory.INSTANCE;
+		this.person = new Person();
+		this.person.name = "Dave";
+		this.person.age = 42;
+	}
+
+	@Benchmark
+	public Object getProperty() {
+		return accessorFactory.getPropertyAccessor(entity, person).getProperty(name);
+	}
+
+	@Benchmark
+	public Object getPrimitiveProperty() {
+		return accessorFactory.getPropertyAccessor(entity, person).getProperty(age);
+	}
+
+	@Benchmark
+	public Object setProperty() {
+
+		PersistentPropertyAccessor accessor = accessorFactory.getPropertyAccessor(entity, person);
+		accessor.setProperty(name, "Carter");
+
+		return accessor.getBean();
+	}
+
+	@Benchmark
+	public Object setPrimitiveProperty() {
+
+		PersistentPropertyAccessor accessor = accessorFactory.getPropertyAccessor(entity, person);
+		accessor.setProperty(age, 43);
+
+		return accessor.getBean();
+	}
+
+	public static class Person {
+
+		public String name;
+		public int age;
+	}
+}
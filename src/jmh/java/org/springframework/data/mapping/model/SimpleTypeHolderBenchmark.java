@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link SimpleTypeHolder} lookups against a large number of dynamically generated types, both for
+ * already cached types and for types seen for the first time.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimpleTypeHolderBenchmark {
+
+	@Param({ "100", "1000" }) int typeCount;
+
+	Class<?>[] types;
+	SimpleTypeHolder warmHolder;
+
+	@Setup
+	public void setUp() {
+
+		this.types = new Class<?>[typeCount];
+
+		for (int i = 0; i < typeCount; i++) {
+
+			// every class loader defines its own proxy class
+			ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+			this.types[i] = Proxy.getProxyClass(classLoader, Sample.class);
+		}
+
+		this.warmHolder = new SimpleTypeHolder(Collections.singleton(Marker.class), true);
+
+		for (Class<?> type : types) {
+			warmHolder.isSimpleType(type);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public void cachedLookups(Blackhole blackhole) {
+
+		for (int i = 0; i < 1000; i++) {
+			blackhole.consume(warmHolder.isSimpleType(types[i % types.length]));
+		}
+	}
+
+	@Benchmark
+	public void coldLookups(Blackhole blackhole) {
+
+		SimpleTypeHolder holder = new SimpleTypeHolder(Collections.singleton(Marker.class), true);
+
+		for (Class<?> type : types) {
+			blackhole.consume(holder.isSimpleType(type));
+		}
+	}
+
+	public interface Sample {}
+
+	public interface Marker {}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
+import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.repository.query.spi.EvaluationContextExtensionSupport;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+
+/**
+ * Benchmarks for the SpEL evaluation overhead of mapping expressions (e.g. {@code @Value} on constructor parameters)
+ * and query method expressions. The {@code …ParsedPerEvaluation} variants resemble the former behavior of parsing
+ * the expression for every evaluation.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpelEvaluationBenchmark {
+
+	private static final String MAPPING_EXPRESSION = "firstname + ' ' + lastname";
+	private static final String QUERY_EXPRESSION = "#lastname + [0] + principal";
+
+	SpelExpressionParser parser = new SpelExpressionParser();
+	SpELContext interpreted = new SpELContext(new ReflectivePropertyAccessor());
+	SpELContext compiled = SpELContext.withCompilerMode(new ReflectivePropertyAccessor(), SpelCompilerMode.MIXED);
+
+	ExtensionAwareEvaluationContextProvider provider = new ExtensionAwareEvaluationContextProvider(
+			Collections.singletonList(new SampleExtension()));
+	DefaultParameters parameters;
+	Expression queryExpression;
+
+	Person person = new Person("Dave", "Matthews");
+	Object[] arguments = new Object[] { "Dave", "Matthews" };
+
+	@Setup
+	public void setUp() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByFirstnameAndLastname", String.class, String.class);
+
+		this.parameters = new DefaultParameters(method);
+		this.queryExpression = parser.parseExpression(QUERY_EXPRESSION);
+	}
+
+	@Benchmark
+	public Object mappingExpressionParsedPerEvaluation() {
+		return parser.parseExpression(MAPPING_EXPRESSION).getValue(interpreted.getEvaluationContext(person));
+	}
+
+	@Benchmark
+	public Object mappingExpressionInterpreted() {
+		return new DefaultSpELExpressionEvaluator(person, interpreted).evaluate(MAPPING_EXPRESSION);
+	}
+
+	@Benchmark
+	public Object mappingExpressionCompiled() {
+		return new DefaultSpELExpressionEvaluator(person, compiled).evaluate(MAPPING_EXPRESSION);
+	}
+
+	@Benchmark
+	public Object queryExpressionParsedPerEvaluation() {
+		return parser.parseExpression(QUERY_EXPRESSION)
+				.getValue(provider.getEvaluationContext(parameters, arguments));
+	}
+
+	@Benchmark
+	public Object queryExpression() {
+		return queryExpression.getValue(provider.getEvaluationContext(parameters, arguments));
+	}
+
+	interface SampleRepository {
+
+		Object findByFirstnameAndLastname(@Param("firstname") String firstname, @Param("lastname") String lastname);
+	}
+
+	static class SampleExtension extends EvaluationContextExtensionSupport {
+
+		@Override
+		public String getExtensionId() {
+			return "sample";
+		}
+
+		@Override
+		public Map<String, Object> getProperties() {
+			return Collections.singletonMap("principal", "user");
+		}
+	}
+
+	public static class Person {
+
+		private final String firstname, lastname;
+
+		Person(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link PartTree} parsing of derived query method names.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartTreeBenchmark {
+
+	private static final String[] SHAPES = { "findByFirstname", "findByLastname", "findByAge", "findByAddressCityZipCode",
+			"findByFirstnameAndLastname", "findByFirstnameOrLastname", "findByAgeGreaterThan", "findByAgeBetween",
+			"findByFirstnameIgnoreCase", "findByFirstnameStartingWith", "findByLastnameOrderByAgeDesc",
+			"findTop10ByAgeGreaterThanOrderByLastnameAsc", "findDistinctByLastname", "countByLastname", "existsByFirstname",
+			"deleteByAge", "findByFirstnameAndLastnameAllIgnoreCase", "findFirstByOrderByAgeAsc", "streamByLastname",
+			"findByFirstnameNotAndAgeLessThanEqual" };
+
+	private final List<String> queryMethods = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+
+		for (int i = 0; queryMethods.size() < 10_000; i++) {
+			queryMethods.add(SHAPES[i % SHAPES.length]);
+		}
+	}
+
+	@Benchmark
+	public Object simpleMethod() {
+		return new PartTree("findByFirstname", Person.class);
+	}
+
+	@Benchmark
+	public Object complexMethod() {
+		return new PartTree("findDistinctTop10ByFirstnameIgnoreCaseAndAgeGreaterThanOrAddressCityZipCodeOrderByLastnameDesc",
+				Person.class);
+	}
+
+	/**
+	 * Parses 10,000 query methods in a fresh JVM, mimicking the repository setup of a large application context in which
+	 * many repositories declare query methods of the same shape.
+	 */
+	@Benchmark
+	@Fork(10)
+	@Warmup(iterations = 0)
+	@Measurement(iterations = 1)
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void startupWithTenThousandQueryMethods(Blackhole blackhole) {
+
+		for (String queryMethod : queryMethods) {
+			blackhole.consume(new PartTree(queryMethod, Person.class));
+		}
+	}
+
+	static class Person {
+
+		String firstname, lastname;
+		int age;
+		Address address;
+	}
+
+	static class Address {
+		City city;
+	}
+
+	static class City {
+		String zipCode;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Benchmarks comparing lookups through {@link TypeCache} with a {@link ConcurrentReferenceHashMap} based cache while
+ * the benchmark thread keeps allocating to put the collector under pressure. Runs with a small heap so that soft
+ * references actually get cleared.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx64m", "-Xms64m" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeCacheBenchmark {
+
+	static final Class<?>[] TYPES = { String.class, Integer.class, Long.class, TypeDiscoverer.class,
+			ClassTypeInformation.class, TypeCache.class, Lazy.class, Pair.class, Version.class, Optionals.class };
+
+	Map<Class<?>, TypeInformation<?>> referenceMap = new ConcurrentReferenceHashMap<>();
+	TypeCache<TypeInformation<?>> typeCache = TypeCache.of(TypeCacheBenchmark::createInformation);
+
+	@Benchmark
+	public void referenceMapLookup(Blackhole blackhole) {
+
+		for (Class<?> type : TYPES) {
+			blackhole.consume(referenceMap.computeIfAbsent(type, TypeCacheBenchmark::createInformation));
+		}
+	}
+
+	@Benchmark
+	public void typeCacheLookup(Blackhole blackhole) {
+
+		for (Class<?> type : TYPES) {
+			blackhole.consume(typeCache.get(type));
+		}
+	}
+
+	@Benchmark
+	public void referenceMapLookupUnderGcPressure(Blackhole blackhole) {
+
+		blackhole.consume(new byte[256 * 1024]);
+
+		referenceMapLookup(blackhole);
+	}
+
+	@Benchmark
+	public void typeCacheLookupUnderGcPressure(Blackhole blackhole) {
+
+		blackhole.consume(new byte[256 * 1024]);
+
+		typeCacheLookup(blackhole);
+	}
+
+	/**
+	 * Creates a fresh, uncached {@link TypeInformation} including its property metadata so that recomputing an evicted
+	 * entry has a realistic cost.
+	 */
+	private static TypeInformation<?> createInformation(Class<?> type) {
+
+		TypeInformation<?> information = new ClassTypeInformation<>(type);
+		information.getTypeArguments();
+
+		return information;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for generics resolution through {@link TypeDiscoverer}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeDiscovererBenchmark {
+
+	TypeInformation<Concrete> type = ClassTypeInformation.from(Concrete.class);
+	Map<TypeInformation<?>, Object> entities = new HashMap<>();
+
+	@Setup
+	public void setUp() {
+		entities.put(type.getRequiredProperty("values"), new Object());
+	}
+
+	@Benchmark
+	public Object classTypeInformation() {
+		return ClassTypeInformation.from(Concrete.class);
+	}
+
+	@Benchmark
+	public Object resolveGenericProperty() {
+		return type.getRequiredProperty("value").getType();
+	}
+
+	@Benchmark
+	public Object resolveCollectionComponentType() {
+		return type.getRequiredProperty("values").getRequiredComponentType().getType();
+	}
+
+	@Benchmark
+	public Object resolveMapValueType() {
+		return type.getRequiredProperty("map").getRequiredMapValueType().getType();
+	}
+
+	@Benchmark
+	public Object resolveTypeArguments() {
+		return type.getRequiredSuperTypeInformation(Generic.class).getTypeArguments();
+	}
+
+	@Benchmark
+	public Object resolveNestedTypeArguments() {
+		return type.getRequiredProperty("map").getTypeArguments().get(1).getType();
+	}
+
+	@Benchmark
+	public Object lookupNestedTypeInMap() {
+		return entities.get(type.getRequiredProperty("values"));
+	}
+
+	static class Generic<T> {
+
+		T value;
+		List<T> values;
+		Map<String, T> map;
+	}
+
+	static class Concrete extends Generic<String> {}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks simulating the metadata inspection performed during repository and mapping context bootstrap on a model
+ * with a deep generic type hierarchy. Every invocation starts off a fresh {@link ClassTypeInformation} while the
+ * individual views are requested repeatedly, the way different bootstrap components do.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeDiscovererHierarchyBenchmark {
+
+	static final Method[] METHODS = Repository.class.getMethods();
+
+	@Benchmark
+	public void inspectFreshHierarchy(Blackhole blackhole) {
+
+		TypeInformation<Repository> type = new ClassTypeInformation<>(Repository.class);
+
+		for (int i = 0; i < 3; i++) {
+
+			TypeInformation<?> base = type.getRequiredSuperTypeInformation(Level1.class);
+
+			blackhole.consume(base.getTypeArguments());
+			blackhole.consume(base.getRequiredSuperTypeInformation(Level0.class).getTypeArguments());
+
+			for (Method method : METHODS) {
+				blackhole.consume(type.getReturnType(method).getActualType());
+				blackhole.consume(type.getParameterTypes(method));
+			}
+		}
+	}
+
+	@Benchmark
+	public void specializeFreshHierarchy(Blackhole blackhole) {
+
+		TypeInformation<Repository> type = new ClassTypeInformation<>(Repository.class);
+		TypeInformation<?> values = type.getRequiredSuperTypeInformation(Level0.class).getRequiredProperty("values");
+
+		for (int i = 0; i < 3; i++) {
+			blackhole.consume(values.specialize(ClassTypeInformation.from(ValueList.class)));
+		}
+	}
+
+	static class Level0<T, ID> {
+
+		List<T> values;
+
+		T findOne(ID id) {
+			return null;
+		}
+
+		List<T> findAll(Iterable<ID> ids) {
+			return null;
+		}
+	}
+
+	static class Level1<T, ID, K> extends Level0<T, ID> {
+
+		Map<K, T> index;
+
+		public Map<K, List<T>> group(K key) {
+			return null;
+		}
+	}
+
+	static class Level2<T, ID> extends Level1<T, ID, String> {
+
+		public List<Map<String, T>> page(ID offset, int size) {
+			return null;
+		}
+	}
+
+	static class Level3<T> extends Level2<T, Long> {
+
+		public T save(T entity) {
+			return null;
+		}
+	}
+
+	static class Repository extends Level3<Map<String, List<Long>>> {}
+
+	@SuppressWarnings("serial")
+	static class ValueList<T> extends ArrayList<T> {}
+}
@@ -20,9 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
@@ -33,6 +31,7 @@ import org.springframework.data.convert.ThreeTenBackPortConverters;
 import org.springframework.data.util.Optionals;
 import org.springframework.data.util.ReflectionUtils;
 import org.springframework.data.util.ReflectionUtils.AnnotationFieldFilter;
+import org.springframework.data.util.TypeCache;
 import org.springframework.util.Assert;
 
 /**
@@ -52,7 +51,8 @@ final class AnnotationAuditingMetadata {
 	private static final AnnotationFieldFilter LAST_MODIFIED_DATE_FILTER = new AnnotationFieldFilter(
 			LastModifiedDate.class);
 
-	private static final Map<Class<?>, AnnotationAuditingMetadata> METADATA_CACHE = new ConcurrentHashMap<>();
+	private static final TypeCache<AnnotationAuditingMetadata> METADATA_CACHE = TypeCache
+			.of(AnnotationAuditingMetadata::new);
 
 	public static final boolean IS_JDK_8 = org.springframework.util.ClassUtils.isPresent("java.time.Clock",
 			AnnotationAuditingMetadata.class.getClassLoader());
@@ -125,7 +125,7 @@ final class AnnotationAuditingMetadata {
 	 * @param type the type to inspect, must not be {@literal null}.
 	 */
 	public static AnnotationAuditingMetadata getMetadata(Class<?> type) {
-		return METADATA_CACHE.computeIfAbsent(type, AnnotationAuditingMetadata::new);
+		return METADATA_CACHE.get(type);
 	}
 
 	/**
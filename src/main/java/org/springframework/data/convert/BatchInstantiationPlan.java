@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Precomputed binding of the parameters of a {@link PersistentEntity}'s {@link PreferredConstructor} to the columns of
+ * a {@link ColumnarValueSource}. A plan is created once per entity and result shape and can then be used to create
+ * any number of instances without resolving constructor parameters per instance.
+ *
+ * @author agent
+ * @since 2.1
+ * @see EntityInstantiator#createInstances(PersistentEntity, BatchInstantiationPlan, ColumnarValueSource)
+ */
+public class BatchInstantiationPlan<P extends PersistentProperty<P>> {
+
+	/**
+	 * Column index to indicate a parameter is not backed by any column and thus gets {@literal null} handed.
+	 */
+	public static final int NO_COLUMN = -1;
+
+	private final @Nullable PreferredConstructor<?, P> constructor;
+	private final List<Parameter<Object, P>> parameters;
+	private final int[] columns;
+	private final Map<Parameter<?, P>, Integer> columnsByParameter;
+
+	private BatchInstantiationPlan(@Nullable PreferredConstructor<?, P> constructor, int[] columns) {
+
+		this.constructor = constructor;
+		this.parameters = constructor == null ? Collections.emptyList() : constructor.getParameters();
+		this.columns = columns;
+		this.columnsByParameter = new IdentityHashMap<>(parameters.size());
+
+		for (int i = 0; i < columns.length; i++) {
+			columnsByParameter.put(parameters.get(i), columns[i]);
+		}
+	}
+
+	/**
+	 * Creates a new {@link BatchInstantiationPlan} for the given {@link PersistentEntity} resolving the column index of
+	 * each constructor parameter using the given function. The function can return {@link #NO_COLUMN} for parameters
+	 * that are not backed by a column. For inner classes the column resolver has to bind the parameter referring to the
+	 * enclosing instance to a column as that one cannot be {@literal null}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columnResolver must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the enclosing instance parameter of an inner class is not backed by a
+	 *           column.
+	 */
+	public static <P extends PersistentProperty<P>> BatchInstantiationPlan<P> of(PersistentEntity<?, P> entity,
+			ToIntFunction<Parameter<Object, P>> columnResolver) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(columnResolver, "Column resolver must not be null!");
+
+		PreferredConstructor<?, P> constructor = entity.getPersistenceConstructor();
+
+		if (constructor == null) {
+			return new BatchInstantiationPlan<>(null, new int[0]);
+		}
+
+		List<Parameter<Object, P>> parameters = constructor.getParameters();
+		int[] columns = new int[parameters.size()];
+
+		for (int i = 0; i < columns.length; i++) {
+
+			Parameter<Object, P> parameter = parameters.get(i);
+			int column = columnResolver.applyAsInt(parameter);
+
+			Assert.isTrue(column >= NO_COLUMN, () -> String.format("Invalid column index %s!", column));
+
+			if (column == NO_COLUMN && constructor.isEnclosingClassParameter(parameter)) {
+				throw new IllegalArgumentException(String.format(
+						"Cannot create instances of inner class %s without a column for the enclosing %s instance!",
+						entity.getType().getName(), parameter.getRawType().getName()));
+			}
+
+			columns[i] = column;
+		}
+
+		return new BatchInstantiationPlan<>(constructor, columns);
+	}
+
+	/**
+	 * Creates a new {@link BatchInstantiationPlan} for the given {@link PersistentEntity} binding constructor parameters
+	 * to the column of the same name. Parameters without a matching column get {@literal null} handed. Inner classes are
+	 * rejected as the enclosing instance cannot be bound by name, use {@link #of(PersistentEntity, ToIntFunction)} to
+	 * bind it explicitly.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columnNames must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given {@link PersistentEntity} is an inner class.
+	 */
+	public static <P extends PersistentProperty<P>> BatchInstantiationPlan<P> forColumnNames(
+			PersistentEntity<?, P> entity, List<String> columnNames) {
+
+		Assert.notNull(columnNames, "Column names must not be null!");
+
+		return of(entity, it -> it.getName() == null ? NO_COLUMN : columnNames.indexOf(it.getName()));
+	}
+
+	/**
+	 * Returns whether the plan was created for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isFor(PersistentEntity<?, P> entity) {
+		return entity.getPersistenceConstructor() == constructor;
+	}
+
+	/**
+	 * Returns the number of constructor arguments.
+	 *
+	 * @return
+	 */
+	int getArgumentCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the column to read the constructor argument at the given index from.
+	 *
+	 * @param index the index of the constructor argument.
+	 * @return the column index or {@link #NO_COLUMN}.
+	 */
+	int getColumn(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * Returns the column to read the value for the given constructor {@link Parameter} from.
+	 *
+	 * @param parameter must not be {@literal null}.
+	 * @return the column index or {@link #NO_COLUMN}.
+	 * @throws IllegalArgumentException in case the given {@link Parameter} is not a parameter of the planned constructor.
+	 */
+	int getColumn(Parameter<?, P> parameter) {
+
+		Integer column = columnsByParameter.get(parameter);
+
+		if (column != null) {
+			return column;
+		}
+
+		// Parameter instances not obtained from the planned constructor
+		for (int i = 0; i < parameters.size(); i++) {
+
+			if (parameters.get(i).equals(parameter)) {
+				return columns[i];
+			}
+		}
+
+		throw new IllegalArgumentException(String.format("Parameter %s is not part of %s!", parameter, constructor));
+	}
+
+	/**
+	 * Returns a {@link ParameterValueProvider} exposing the given row of the given {@link ColumnarValueSource}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param row the row to expose.
+	 * @return
+	 */
+	ParameterValueProvider<P> getParameterValueProvider(ColumnarValueSource source, int row) {
+		return new RowParameterValueProvider(source, row);
+	}
+
+	/**
+	 * {@link ParameterValueProvider} to expose a single row of a {@link ColumnarValueSource}.
+	 *
+	 * @author agent
+	 */
+	private class RowParameterValueProvider implements ParameterValueProvider<P> {
+
+		private final ColumnarValueSource source;
+		private final int row;
+
+		RowParameterValueProvider(ColumnarValueSource source, int row) {
+
+			this.source = source;
+			this.row = row;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.ParameterValueProvider#getParameterValue(org.springframework.data.mapping.PreferredConstructor.Parameter)
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getParameterValue(Parameter<T, P> parameter) {
+
+			int column = getColumn(parameter);
+
+			return column == NO_COLUMN ? null : (T) source.getValue(row, column);
+		}
+	}
+}
@@ -19,12 +19,17 @@ import static org.springframework.asm.Opcodes.*;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.asm.ClassWriter;
 import org.springframework.asm.MethodVisitor;
@@ -34,12 +39,16 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.ConstructorParameterPlan;
 import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PregeneratedClassIndex;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
 
 /**
  * An {@link EntityInstantiator} that can generate byte code to speed-up dynamic object instantiation. Uses the
@@ -60,7 +69,10 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 
 	private final ObjectInstantiatorClassGenerator generator;
 
-	private volatile Map<TypeInformation<?>, EntityInstantiator> entityInstantiators = new HashMap<>(32);
+	private final Map<TypeInformation<?>, EntityInstantiator> entityInstantiators = new ConcurrentHashMap<>(32);
+
+	private final LongAdder generatedClasses = new LongAdder();
+	private final LongAdder generationNanos = new LongAdder();
 
 	/**
 	 * Creates a new {@link ClassGeneratingEntityInstantiator}.
@@ -86,28 +98,69 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		return instantiator.createInstance(entity, provider);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.EntityInstantiator#createInstances(org.springframework.data.mapping.PersistentEntity, org.springframework.data.convert.BatchInstantiationPlan, org.springframework.data.convert.ColumnarValueSource)
+	 */
+	@Override
+	public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> List<T> createInstances(
+			E entity, BatchInstantiationPlan<P> plan, ColumnarValueSource source) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		EntityInstantiator instantiator = this.entityInstantiators.get(entity.getTypeInformation());
+
+		if (instantiator == null) {
+			instantiator = potentiallyCreateAndRegisterEntityInstantiator(entity);
+		}
+
+		return instantiator.createInstances(entity, plan, source);
+	}
+
 	/**
+	 * Returns the number of {@link ObjectInstantiator} classes generated by this instance. Threads racing to create the
+	 * instantiator for the same type are counted individually.
+	 *
+	 * @return
+	 * @since 2.1
+	 */
+	public long getGeneratedClassCount() {
+		return generatedClasses.sum();
+	}
+
+	/**
+	 * Returns the accumulated time spent generating {@link ObjectInstantiator} classes. As classes for different types
+	 * are generated concurrently, this can exceed the wall-clock time spent.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	public Duration getClassGenerationTime() {
+		return Duration.ofNanos(generationNanos.sum());
+	}
+
+	/**
+	 * Looks up the {@link EntityInstantiator} for the given {@link PersistentEntity} and creates it if necessary.
+	 * Creation doesn't hold any lock so that instantiators for different types are created in parallel. Threads racing
+	 * to create the instantiator for the same type all use the one registered first.
+	 *
 	 * @param entity
 	 * @return
 	 */
-	private synchronized EntityInstantiator potentiallyCreateAndRegisterEntityInstantiator(
-			PersistentEntity<?, ?> entity) {
+	private EntityInstantiator potentiallyCreateAndRegisterEntityInstantiator(PersistentEntity<?, ?> entity) {
 
-		Map<TypeInformation<?>, EntityInstantiator> map = this.entityInstantiators;
-		EntityInstantiator instantiator = map.get(entity.getTypeInformation());
+		TypeInformation<?> type = entity.getTypeInformation();
+		EntityInstantiator instantiator = this.entityInstantiators.get(type);
 
 		if (instantiator != null) {
 			return instantiator;
 		}
 
+		// No computeIfAbsent(…) as that would block lookups of other types hashing to the same bin during generation
 		instantiator = createEntityInstantiator(entity);
+		EntityInstantiator existing = this.entityInstantiators.putIfAbsent(type, instantiator);
 
-		map = new HashMap<>(map);
-		map.put(entity.getTypeInformation(), instantiator);
-
-		this.entityInstantiators = map;
-
-		return instantiator;
+		return existing == null ? instantiator : existing;
 	}
 
 	/**
@@ -159,6 +212,31 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		return false;
 	}
 
+	/**
+	 * Generates the {@link ObjectInstantiator} class for the given {@link PersistentEntity} ahead of time. Classes
+	 * generated this way and put on the classpath next to the entity type are used instead of generating the class at
+	 * runtime, as long as the persistence constructor of the entity did not change in the meantime.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the class name and byte code of the instantiator class or {@link Optional#empty()} if the entity is
+	 *         instantiated reflectively.
+	 * @since 2.1
+	 */
+	public Optional<Pair<String, byte[]>> generateInstantiatorClass(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		if (shouldUseReflectionEntityInstantiator(entity)) {
+			return Optional.empty();
+		}
+
+		PreferredConstructor<?, ?> constructor = entity.getPersistenceConstructor();
+		String metadata = ObjectInstantiatorClassGenerator.getPregeneratedClassMetadata(constructor);
+		String className = ObjectInstantiatorClassGenerator.generatePregeneratedClassName(entity.getType(), metadata);
+
+		return Optional.of(Pair.of(className, generator.generateBytecode(className, entity, constructor, metadata)));
+	}
+
 	/**
 	 * Allocates an object array for instance creation.
 	 *
@@ -172,7 +250,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 
 	/**
 	 * Creates a dynamically generated {@link ObjectInstantiator} for the given {@link PersistentEntity} and
-	 * {@link PreferredConstructor}. There will always be exactly one {@link ObjectInstantiator} instance per
+	 * {@link PreferredConstructor}. There will always be exactly one {@link ObjectInstantiator} instance registered per
 	 * {@link PersistentEntity}.
 	 *
 	 * @param entity
@@ -182,10 +260,31 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 	ObjectInstantiator createObjectInstantiator(PersistentEntity<?, ?> entity,
 			@Nullable PreferredConstructor<?, ?> constructor) {
 
+		Class<?> pregeneratedClass = ObjectInstantiatorClassGenerator.loadPregeneratedInstantiatorClass(entity, constructor);
+
+		if (pregeneratedClass != null) {
+
+			try {
+				return (ObjectInstantiator) pregeneratedClass.newInstance();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		long start = System.nanoTime();
+
 		try {
-			return (ObjectInstantiator) this.generator.generateCustomInstantiatorClass(entity, constructor).newInstance();
+
+			Class<?> instantiatorClass = this.generator.generateCustomInstantiatorClass(entity, constructor);
+
+			generatedClasses.increment();
+
+			return (ObjectInstantiator) instantiatorClass.newInstance();
+
 		} catch (Exception e) {
 			throw new RuntimeException(e);
+		} finally {
+			generationNanos.add(System.nanoTime() - start);
 		}
 	}
 
@@ -218,7 +317,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity,
 				ParameterValueProvider<P> provider) {
 
-			Object[] params = extractInvocationArguments(entity.getPersistenceConstructor(), provider);
+			Object[] params = extractInvocationArguments(entity, provider);
 
 			try {
 				return (T) instantiator.newInstance(params);
@@ -227,6 +326,44 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 			}
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.convert.EntityInstantiator#createInstances(org.springframework.data.mapping.PersistentEntity, org.springframework.data.convert.BatchInstantiationPlan, org.springframework.data.convert.ColumnarValueSource)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> List<T> createInstances(
+				E entity, BatchInstantiationPlan<P> plan, ColumnarValueSource source) {
+
+			Assert.notNull(entity, "PersistentEntity must not be null!");
+			Assert.notNull(plan, "BatchInstantiationPlan must not be null!");
+			Assert.notNull(source, "ColumnarValueSource must not be null!");
+			Assert.isTrue(plan.isFor(entity), "BatchInstantiationPlan was not created for the given entity!");
+
+			int rowCount = source.getRowCount();
+			int argumentCount = plan.getArgumentCount();
+			List<T> instances = new ArrayList<>(rowCount);
+
+			for (int row = 0; row < rowCount; row++) {
+
+				Object[] params = allocateArguments(argumentCount);
+
+				for (int i = 0; i < argumentCount; i++) {
+
+					int column = plan.getColumn(i);
+					params[i] = column == BatchInstantiationPlan.NO_COLUMN ? null : source.getValue(row, column);
+				}
+
+				try {
+					instances.add((T) instantiator.newInstance(params));
+				} catch (Exception e) {
+					throw new MappingInstantiationException(entity, Arrays.asList(params), e);
+				}
+			}
+
+			return instances;
+		}
+
 		/**
 		 * Extracts the arguments required to invoke the given constructor from the given {@link ParameterValueProvider}.
 		 *
@@ -235,17 +372,19 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		 * @return
 		 */
 		private <P extends PersistentProperty<P>, T> Object[] extractInvocationArguments(
-				@Nullable PreferredConstructor<? extends T, P> constructor, ParameterValueProvider<P> provider) {
+				PersistentEntity<? extends T, P> entity, ParameterValueProvider<P> provider) {
+
+			PreferredConstructor<? extends T, P> constructor = entity.getPersistenceConstructor();
 
 			if (constructor == null || !constructor.hasParameters()) {
 				return allocateArguments(0);
 			}
 
 			Object[] params = allocateArguments(constructor.getConstructor().getParameterCount());
+			ConstructorParameterPlan<P> plan = ConstructorParameterPlan.of(entity);
 
-			int index = 0;
-			for (Parameter<?, P> parameter : constructor.getParameters()) {
-				params[index++] = provider.getParameterValue(parameter);
+			for (int i = 0; i < plan.getParameterCount(); i++) {
+				params[i] = plan.getParameterValue(i, provider);
 			}
 
 			return params;
@@ -304,6 +443,8 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 
 		private static final String INIT = "<init>";
 		private static final String TAG = "_Instantiator_";
+		private static final String PREGENERATED_TAG = TAG + "aot_";
+		private static final String METADATA_FIELD = "$$metadata";
 		private static final String JAVA_LANG_OBJECT = "java/lang/Object";
 		private static final String CREATE_METHOD_NAME = "newInstance";
 
@@ -329,7 +470,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 				@Nullable PreferredConstructor<?, ?> constructor) {
 
 			String className = generateClassName(entity);
-			byte[] bytecode = generateBytecode(className, entity, constructor);
+			byte[] bytecode = generateBytecode(className, entity, constructor, null);
 
 			return classLoader.loadClass(className, bytecode);
 		}
@@ -343,21 +484,89 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		}
 
 		/**
-		 * Generate a new class for the given {@link PersistentEntity}.
+		 * Returns the metadata an ahead-of-time generated instantiator class is created for, i.e. the constructor invoked.
+		 *
+		 * @param constructor
+		 * @return
+		 */
+		static String getPregeneratedClassMetadata(@Nullable PreferredConstructor<?, ?> constructor) {
+			return constructor == null ? "" : constructor.getConstructor().toString();
+		}
+
+		/**
+		 * Generates a stable class name for ahead-of-time generated instantiator classes. The name is derived from a
+		 * digest of the given metadata so that a class generated for a different constructor is not picked up.
+		 *
+		 * @param type
+		 * @param metadata
+		 * @return
+		 */
+		static String generatePregeneratedClassName(Class<?> type, String metadata) {
+			return type.getName() + PREGENERATED_TAG + DigestUtils.md5DigestAsHex(metadata.getBytes(StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Loads the ahead-of-time generated instantiator class for the given {@link PersistentEntity} from the entity's
+		 * {@link ClassLoader} if it is listed in the {@link PregeneratedClassIndex}.
+		 *
+		 * @param entity
+		 * @param constructor
+		 * @return the instantiator class or {@literal null} if none was generated.
+		 */
+		@Nullable
+		static Class<?> loadPregeneratedInstantiatorClass(PersistentEntity<?, ?> entity,
+				@Nullable PreferredConstructor<?, ?> constructor) {
+
+			ClassLoader classLoader = entity.getType().getClassLoader();
+			PregeneratedClassIndex index = PregeneratedClassIndex.forClassLoader(classLoader);
+
+			if (classLoader == null || index.isEmpty()) {
+				return null;
+			}
+
+			String metadata = getPregeneratedClassMetadata(constructor);
+
+			String className = generatePregeneratedClassName(entity.getType(), metadata);
+
+			if (!index.contains(className)) {
+				return null;
+			}
+
+			try {
+
+				Class<?> type = ClassUtils.forName(className, classLoader);
+
+				// Guard against digest collisions
+				return metadata.equals(type.getField(METADATA_FIELD).get(null)) ? type : null;
+
+			} catch (ReflectiveOperationException | LinkageError o_O) {
+				return null;
+			}
+		}
+
+		/**
+		 * Generate a new class for the given {@link PersistentEntity}. The given metadata, if any, is exposed through a
+		 * constant so that it can be verified when loading an ahead-of-time generated class.
 		 *
 		 * @param internalClassName
 		 * @param entity
 		 * @param constructor
+		 * @param metadata
 		 * @return
 		 */
 		public byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity,
-				@Nullable PreferredConstructor<?, ?> constructor) {
+				@Nullable PreferredConstructor<?, ?> constructor, @Nullable String metadata) {
 
 			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 
 			cw.visit(Opcodes.V1_6, ACC_PUBLIC + ACC_SUPER, internalClassName.replace('.', '/'), null, JAVA_LANG_OBJECT,
 					IMPLEMENTED_INTERFACES);
 
+			if (metadata != null) {
+				cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, METADATA_FIELD, Type.getDescriptor(String.class), null,
+						metadata).visitEnd();
+			}
+
 			visitDefaultConstructor(cw);
 
 			visitCreateMethod(cw, entity, constructor);
@@ -554,7 +763,19 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 					}
 				} catch (ClassNotFoundException ignore) {}
 
-				return defineClass(name, bytes, 0, bytes.length);
+				try {
+					return defineClass(name, bytes, 0, bytes.length);
+				} catch (LinkageError o_O) {
+
+					// Concurrently defined for the same type by another thread
+					Class<?> clazz = findLoadedClass(name);
+
+					if (clazz != null) {
+						return clazz;
+					}
+
+					throw o_O;
+				}
 			}
 		}
 	}
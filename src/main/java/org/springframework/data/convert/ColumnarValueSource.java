@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Column-oriented source of values to create a batch of entity instances from. Each row results in one instance, the
+ * columns are bound to constructor parameters through a {@link BatchInstantiationPlan}.
+ *
+ * @author agent
+ * @since 2.1
+ * @see EntityInstantiator#createInstances(org.springframework.data.mapping.PersistentEntity, BatchInstantiationPlan,
+ *      ColumnarValueSource)
+ */
+public interface ColumnarValueSource {
+
+	/**
+	 * Returns the number of rows, i.e. the number of instances to create.
+	 *
+	 * @return
+	 */
+	int getRowCount();
+
+	/**
+	 * Returns the value of the given column in the given row.
+	 *
+	 * @param row the zero-based row index.
+	 * @param column the zero-based column index.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object getValue(int row, int column);
+}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -34,6 +35,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.convert.converter.Converter;
@@ -47,6 +49,7 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.Optionals;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Value object to capture custom conversion. That is essentially a {@link List} of converters and some additional logic
@@ -88,14 +91,17 @@ public class CustomConversions {
 	private final ConversionTargetsCache customReadTargetTypes = new ConversionTargetsCache();
 	private final ConversionTargetsCache customWriteTargetTypes = new ConversionTargetsCache();
 
+	private final ConvertiblePairIndex readingIndex;
+	private final ConvertiblePairIndex writingIndex;
+
 	private final Function<ConvertiblePair, Optional<Class<?>>> getReadTarget = convertiblePair -> getCustomTarget(
-			convertiblePair.getSourceType(), Optional.of(convertiblePair.getTargetType()), readingPairs);
+			convertiblePair.getSourceType(), Optional.of(convertiblePair.getTargetType()), getReadingIndex());
 
 	private Function<ConvertiblePair, Optional<Class<?>>> getWriteTarget = convertiblePair -> getCustomTarget(
-			convertiblePair.getSourceType(), Optional.of(convertiblePair.getTargetType()), writingPairs);
+			convertiblePair.getSourceType(), Optional.of(convertiblePair.getTargetType()), getWritingIndex());
 
 	private Function<ConvertiblePair, Optional<Class<?>>> getRawWriteTarget = convertiblePair -> getCustomTarget(
-			convertiblePair.getSourceType(), Optional.empty(), writingPairs);
+			convertiblePair.getSourceType(), Optional.empty(), getWritingIndex());
 
 	/**
 	 * Creates a new {@link CustomConversions} instance registering the given converters.
@@ -121,6 +127,8 @@ public class CustomConversions {
 
 		Collections.reverse(toRegister);
 
+		this.readingIndex = new ConvertiblePairIndex(readingPairs);
+		this.writingIndex = new ConvertiblePairIndex(writingPairs);
 		this.converters = Collections.unmodifiableList(toRegister);
 		this.simpleTypeHolder = new SimpleTypeHolder(customSimpleTypes, storeConversions.getStoreTypeHolder());
 	}
@@ -317,32 +325,32 @@ public class CustomConversions {
 		return customReadTargetTypes.computeIfAbsent(sourceType, targetType, getReadTarget);
 	}
 
+	private ConvertiblePairIndex getReadingIndex() {
+		return readingIndex;
+	}
+
+	private ConvertiblePairIndex getWritingIndex() {
+		return writingIndex;
+	}
+
 	/**
-	 * Inspects the given {@link ConvertiblePair}s for ones that have a source compatible type as source. Additionally
-	 * checks assignability of the target type if one is given.
+	 * Inspects the given {@link ConvertiblePairIndex} for pairs that have a source compatible type as source.
+	 * Additionally checks assignability of the target type if one is given.
 	 *
 	 * @param sourceType must not be {@literal null}.
 	 * @param targetType can be {@literal null}.
-	 * @param pairs must not be {@literal null}.
+	 * @param index must not be {@literal null}.
 	 * @return
 	 */
 	private Optional<Class<?>> getCustomTarget(Class<?> sourceType, Optional<Class<?>> targetType,
-			Collection<ConvertiblePair> pairs) {
+			ConvertiblePairIndex index) {
 
 		Assert.notNull(sourceType, "Source Class must not be null!");
-		Assert.notNull(pairs, "Collection of ConvertiblePair must not be null!");
+		Assert.notNull(index, "ConvertiblePairIndex must not be null!");
 
 		return Optionals.firstNonEmpty(//
-				() -> targetType.filter(it -> pairs.contains(new ConvertiblePair(sourceType, it))), //
-				() -> pairs.stream()//
-						.filter(it -> hasAssignableSourceType(it, sourceType)) //
-						.<Class<?>> map(ConvertiblePair::getTargetType)//
-						.filter(it -> requestTargetTypeIsAssignable(targetType, it))//
-						.findFirst());
-	}
-
-	private static boolean hasAssignableSourceType(ConvertiblePair pair, Class<?> sourceType) {
-		return pair.getSourceType().isAssignableFrom(sourceType);
+				() -> targetType.filter(it -> index.contains(new ConvertiblePair(sourceType, it))), //
+				() -> index.findFirstTarget(sourceType, it -> requestTargetTypeIsAssignable(targetType, it)));
 	}
 
 	private static boolean requestTargetTypeIsAssignable(Optional<Class<?>> requestedTargetType, Class<?> targetType) {
@@ -359,6 +367,7 @@ public class CustomConversions {
 	 */
 	static class ConversionTargetsCache {
 
+		private final Map<Class<?>, Optional<Class<?>>> rawTargetTypes = new ConcurrentHashMap<>();
 		private final Map<Class<?>, TargetTypes> customReadTargetTypes = new ConcurrentHashMap<>();
 
 		/**
@@ -372,7 +381,15 @@ public class CustomConversions {
 		 */
 		public Optional<Class<?>> computeIfAbsent(Class<?> sourceType,
 				Function<ConvertiblePair, Optional<Class<?>>> mappingFunction) {
-			return computeIfAbsent(sourceType, AbsentTargetTypeMarker.class, mappingFunction);
+
+			Optional<Class<?>> optionalTarget = rawTargetTypes.get(sourceType);
+
+			if (optionalTarget == null) {
+				optionalTarget = mappingFunction.apply(new ConvertiblePair(sourceType, AbsentTargetTypeMarker.class));
+				rawTargetTypes.put(sourceType, optionalTarget);
+			}
+
+			return optionalTarget;
 		}
 
 		/**
@@ -398,6 +415,122 @@ public class CustomConversions {
 		interface AbsentTargetTypeMarker {}
 	}
 
+	/**
+	 * Index of {@link ConvertiblePair}s by their source type. Looks up the pairs applicable to a source type by walking
+	 * the type's hierarchy instead of checking every registered pair for assignability, while still returning the
+	 * first matching pair in registration order.
+	 *
+	 * @since 2.1
+	 */
+	static class ConvertiblePairIndex {
+
+		private static final int[] NO_POSITIONS = new int[0];
+
+		private final ConvertiblePair[] pairs;
+		private final Set<ConvertiblePair> pairSet;
+		private final Map<Class<?>, int[]> positionsBySourceType;
+
+		/**
+		 * Creates a new {@link ConvertiblePairIndex} for the given {@link ConvertiblePair}s in registration order.
+		 *
+		 * @param pairs must not be {@literal null}.
+		 */
+		ConvertiblePairIndex(Collection<ConvertiblePair> pairs) {
+
+			Assert.notNull(pairs, "ConvertiblePairs must not be null!");
+
+			this.pairs = pairs.toArray(new ConvertiblePair[0]);
+			this.pairSet = new HashSet<>(pairs);
+
+			Map<Class<?>, List<Integer>> positions = new HashMap<>();
+
+			for (int i = 0; i < this.pairs.length; i++) {
+				positions.computeIfAbsent(this.pairs[i].getSourceType(), it -> new ArrayList<>()).add(i);
+			}
+
+			this.positionsBySourceType = new HashMap<>(positions.size());
+
+			positions.forEach((type, list) -> positionsBySourceType.put(type,
+					list.stream().mapToInt(Integer::intValue).toArray()));
+		}
+
+		/**
+		 * Returns whether the given {@link ConvertiblePair} is contained in the index.
+		 *
+		 * @param pair must not be {@literal null}.
+		 * @return
+		 */
+		boolean contains(ConvertiblePair pair) {
+			return pairSet.contains(pair);
+		}
+
+		/**
+		 * Returns the target type of the first registered {@link ConvertiblePair} whose source type is assignable from
+		 * the given one and whose target type matches the given {@link Predicate}.
+		 *
+		 * @param sourceType must not be {@literal null}.
+		 * @param targetFilter must not be {@literal null}.
+		 * @return
+		 */
+		Optional<Class<?>> findFirstTarget(Class<?> sourceType, Predicate<Class<?>> targetFilter) {
+
+			if (pairs.length == 0) {
+				return Optional.empty();
+			}
+
+			// Array types are assignable to arrays of their component's super types, which the hierarchy does not reflect
+			if (sourceType.isArray()) {
+				return Arrays.stream(pairs) //
+						.filter(it -> it.getSourceType().isAssignableFrom(sourceType)) //
+						.<Class<?>> map(ConvertiblePair::getTargetType) //
+						.filter(targetFilter) //
+						.findFirst();
+			}
+
+			int first = Integer.MAX_VALUE;
+
+			for (Class<?> candidate : getSuperTypes(sourceType)) {
+
+				for (int position : positionsBySourceType.getOrDefault(candidate, NO_POSITIONS)) {
+
+					if (position >= first) {
+						break;
+					}
+
+					if (targetFilter.test(pairs[position].getTargetType())) {
+						first = position;
+						break;
+					}
+				}
+			}
+
+			return first == Integer.MAX_VALUE ? Optional.empty() : Optional.of(pairs[first].getTargetType());
+		}
+
+		/**
+		 * Returns all types the given one is assignable to, i.e. the type itself, its super classes and all implemented
+		 * interfaces.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		private static Set<Class<?>> getSuperTypes(Class<?> type) {
+
+			Set<Class<?>> result = new LinkedHashSet<>();
+
+			for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+				result.add(current);
+				result.addAll(ClassUtils.getAllInterfacesForClassAsSet(current));
+			}
+
+			if (!type.isPrimitive()) {
+				result.add(Object.class);
+			}
+
+			return result;
+		}
+	}
+
 	/**
 	 * Value object for a specific {@code Class source type} to determine possible target conversion types.
 	 *
@@ -43,9 +43,10 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 
 	private final TypeAliasAccessor<S> accessor;
 	private final List<? extends TypeInformationMapper> mappers;
-	private final Map<Alias, Optional<TypeInformation<?>>> typeCache;
+	private final Map<Object, Optional<TypeInformation<?>>> typeCache;
+	private final Map<TypeInformation<?>, Alias> aliasCache;
 
-	private final Function<Alias, Optional<TypeInformation<?>>> getAlias;
+	private final Function<Object, Optional<TypeInformation<?>>> getAlias;
 
 	/**
 	 * Creates a new {@link DefaultTypeMapper} using the given {@link TypeAliasAccessor}. It will use a
@@ -93,10 +94,13 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 		this.mappers = Collections.unmodifiableList(mappers);
 		this.accessor = accessor;
 		this.typeCache = new ConcurrentHashMap<>();
+		this.aliasCache = new ConcurrentHashMap<>();
 		this.getAlias = key -> {
 
+			Alias alias = key == Alias.NONE ? Alias.NONE : Alias.of(key);
+
 			for (TypeInformationMapper mapper : mappers) {
-				TypeInformation<?> typeInformation = mapper.resolveTypeFrom(key);
+				TypeInformation<?> typeInformation = mapper.resolveTypeFrom(alias);
 
 				if (typeInformation != null) {
 					return Optional.of(typeInformation);
@@ -104,6 +108,28 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 			}
 			return Optional.empty();
 		};
+
+		if (mappingContext != null) {
+			registerAliasesFor(mappingContext);
+		}
+	}
+
+	/**
+	 * Pre-populates the alias caches for all {@link PersistentEntity} instances already known to the given
+	 * {@link MappingContext}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	private void registerAliasesFor(MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
+
+		for (PersistentEntity<?, ?> entity : mappingContext.getPersistentEntities()) {
+
+			Alias alias = getAliasFor(entity.getTypeInformation().getRawTypeInformation());
+
+			if (alias.isPresent()) {
+				getFromCacheOrCreate(alias.getValue());
+			}
+		}
 	}
 
 	/*
@@ -115,19 +141,29 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 
 		Assert.notNull(source, "Source object must not be null!");
 
-		return getFromCacheOrCreate(accessor.readAliasFrom(source));
+		Object alias = accessor.readRawAliasFrom(source);
+
+		return getFromCacheOrCreate(alias == null ? Alias.NONE : alias);
 	}
 
 	/**
-	 * Tries to lookup a {@link TypeInformation} for the given alias from the cache and return it if found. If none is
-	 * found it'll consult the {@link TypeInformationMapper}s and cache the value found.
+	 * Tries to lookup a {@link TypeInformation} for the given raw alias value from the cache and return it if found. If
+	 * none is found it'll consult the {@link TypeInformationMapper}s and cache the value found. The cache is keyed by
+	 * the raw alias values, so that reads neither wrap them into an {@link Alias} nor lock on a cache hit.
 	 *
-	 * @param alias
+	 * @param alias the raw alias value or {@link Alias#NONE} in case no alias is present, must not be {@literal null}.
 	 * @return
 	 */
 	@Nullable
-	private TypeInformation<?> getFromCacheOrCreate(Alias alias) {
-		return typeCache.computeIfAbsent(alias, getAlias).orElse(null);
+	private TypeInformation<?> getFromCacheOrCreate(Object alias) {
+
+		Optional<TypeInformation<?>> type = typeCache.get(alias);
+
+		if (type == null) {
+			type = typeCache.computeIfAbsent(alias, getAlias);
+		}
+
+		return type.orElse(null);
 	}
 
 	/*
@@ -209,7 +245,8 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 	}
 
 	/**
-	 * Returns the alias to be used for the given {@link TypeInformation}.
+	 * Returns the alias to be used for the given {@link TypeInformation}. Aliases are cached per
+	 * {@link TypeInformation}, including the absence of one.
 	 *
 	 * @param info must not be {@literal null}
 	 * @return the alias for the given {@link TypeInformation} or {@literal null} of none was found or all mappers
@@ -219,6 +256,23 @@ public class DefaultTypeMapper<S> implements TypeMapper<S> {
 
 		Assert.notNull(info, "TypeInformation must not be null!");
 
+		Alias alias = aliasCache.get(info);
+
+		if (alias == null) {
+			alias = aliasCache.computeIfAbsent(info, this::createAliasFor);
+		}
+
+		return alias;
+	}
+
+	/**
+	 * Consults the {@link TypeInformationMapper}s for the alias to be used for the given {@link TypeInformation}.
+	 *
+	 * @param info must not be {@literal null}.
+	 * @return
+	 */
+	private Alias createAliasFor(TypeInformation<?> info) {
+
 		for (TypeInformationMapper mapper : mappers) {
 
 			Alias alias = mapper.createAliasFor(info);
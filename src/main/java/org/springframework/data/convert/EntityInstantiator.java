@@ -15,9 +15,13 @@
  */
 package org.springframework.data.convert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.util.Assert;
 
 /**
  * SPI to abstract strategies to create instances for {@link PersistentEntity}s.
@@ -35,4 +39,34 @@ public interface EntityInstantiator {
 	 */
 	<T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity,
 			ParameterValueProvider<P> provider);
+
+	/**
+	 * Creates one instance of the given entity per row of the given {@link ColumnarValueSource}, binding constructor
+	 * arguments as defined by the given {@link BatchInstantiationPlan}. The default implementation calls
+	 * {@link #createInstance(PersistentEntity, ParameterValueProvider)} for every row, implementations are encouraged to
+	 * create the instances without resolving the constructor parameters per row.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @return the created instances in row order, will never be {@literal null}.
+	 * @since 2.1
+	 */
+	default <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> List<T> createInstances(
+			E entity, BatchInstantiationPlan<P> plan, ColumnarValueSource source) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(plan, "BatchInstantiationPlan must not be null!");
+		Assert.notNull(source, "ColumnarValueSource must not be null!");
+		Assert.isTrue(plan.isFor(entity), "BatchInstantiationPlan was not created for the given entity!");
+
+		int rowCount = source.getRowCount();
+		List<T> instances = new ArrayList<>(rowCount);
+
+		for (int row = 0; row < rowCount; row++) {
+			instances.add(createInstance(entity, plan.getParameterValueProvider(source, row)));
+		}
+
+		return instances;
+	}
 }
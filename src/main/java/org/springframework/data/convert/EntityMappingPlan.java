@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Read and write plan for a {@link PersistentEntity} that copies property values between instances of the entity and
+ * a {@link KeyValueDocument}. All per-entity metadata (keys, whether a property is bound to a constructor argument, the
+ * {@link EntityInstantiator} to use) is resolved once on creation and the conversions necessary for a property are
+ * cached per value type on first use, so that reading and writing an entity boils down to a loop over precomputed
+ * property slots using the entity's {@link PersistentPropertyAccessor}.
+ * <p>
+ * Associations and properties referring to nested entities (see {@link PersistentProperty#isEntity()}) are not
+ * considered, i.e. they are neither read nor written. Entities binding such a property to a constructor argument are
+ * rejected. {@literal null} values are neither read nor written.
+ *
+ * @author agent
+ * @since 2.1
+ */
+public class EntityMappingPlan<T, P extends PersistentProperty<P>> implements EntityWriter<T, KeyValueDocument> {
+
+	private static final EntityInstantiators INSTANTIATORS = new EntityInstantiators();
+
+	private final PersistentEntity<T, P> entity;
+	private final CustomConversions conversions;
+	private final ConversionService conversionService;
+	private final EntityInstantiator instantiator;
+	private final List<PropertySlot<P>> slots;
+	private final Map<P, PropertySlot<P>> slotsByProperty;
+
+	private EntityMappingPlan(PersistentEntity<T, P> entity, CustomConversions conversions,
+			ConversionService conversionService, Function<? super P, String> keyMapper) {
+
+		this.entity = entity;
+		this.conversions = conversions;
+		this.conversionService = conversionService;
+		this.instantiator = INSTANTIATORS.getInstantiatorFor(entity);
+		this.slots = new ArrayList<>();
+		this.slotsByProperty = new IdentityHashMap<>();
+
+		entity.doWithProperties((PropertyHandler<P>) property -> {
+
+			if (property.isEntity()) {
+
+				if (entity.isConstructorArgument(property)) {
+					throw new MappingException(String.format(
+							"Nested entity property %s of %s is bound to a constructor argument and cannot be mapped!",
+							property.getName(), entity.getType().getName()));
+				}
+
+				return;
+			}
+
+			PropertySlot<P> slot = new PropertySlot<>(property, keyMapper.apply(property),
+					entity.isConstructorArgument(property));
+
+			slots.add(slot);
+			slotsByProperty.put(property, slot);
+		});
+	}
+
+	/**
+	 * Creates a new {@link EntityMappingPlan} for the given {@link PersistentEntity} using the property names as keys.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @return
+	 * @throws MappingException in case a nested entity property is bound to a constructor argument.
+	 */
+	public static <T, P extends PersistentProperty<P>> EntityMappingPlan<T, P> of(PersistentEntity<T, P> entity,
+			CustomConversions conversions, ConversionService conversionService) {
+		return of(entity, conversions, conversionService, PersistentProperty::getName);
+	}
+
+	/**
+	 * Creates a new {@link EntityMappingPlan} for the given {@link PersistentEntity} using the given {@link Function} to
+	 * determine the key to store a property's value under.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}. Expected to have the {@link CustomConversions} registered.
+	 * @param keyMapper must not be {@literal null}.
+	 * @return
+	 * @throws MappingException in case a nested entity property is bound to a constructor argument.
+	 */
+	public static <T, P extends PersistentProperty<P>> EntityMappingPlan<T, P> of(PersistentEntity<T, P> entity,
+			CustomConversions conversions, ConversionService conversionService, Function<? super P, String> keyMapper) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(conversions, "CustomConversions must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+		Assert.notNull(keyMapper, "Key mapper must not be null!");
+
+		return new EntityMappingPlan<>(entity, conversions, conversionService, keyMapper);
+	}
+
+	/**
+	 * Creates a new instance of the entity from the given {@link KeyValueDocument}.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return
+	 */
+	public T read(KeyValueDocument document) {
+
+		Assert.notNull(document, "KeyValueDocument must not be null!");
+
+		PropertyValueProvider<P> valueProvider = new DocumentPropertyValueProvider(document);
+		T instance = instantiator.createInstance(entity,
+				new PersistentEntityParameterValueProvider<>(entity, valueProvider, null));
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+
+		for (PropertySlot<P> slot : slots) {
+
+			if (slot.constructorArgument) {
+				continue;
+			}
+
+			Object value = slot.read(document, conversionService);
+
+			if (value != null) {
+				accessor.setProperty(slot.property, value);
+			}
+		}
+
+		return instance;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.EntityWriter#write(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void write(T source, KeyValueDocument sink) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(sink, "KeyValueDocument must not be null!");
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
+
+		for (PropertySlot<P> slot : slots) {
+
+			Object value = accessor.getProperty(slot.property);
+
+			if (value != null) {
+				sink.put(slot.key, slot.write(value, conversions, conversionService));
+			}
+		}
+	}
+
+	/**
+	 * {@link PropertyValueProvider} to look up constructor argument values from a {@link KeyValueDocument}.
+	 *
+	 * @author agent
+	 * @since 2.1
+	 */
+	private class DocumentPropertyValueProvider implements PropertyValueProvider<P> {
+
+		private final KeyValueDocument document;
+
+		DocumentPropertyValueProvider(KeyValueDocument document) {
+			this.document = document;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public <S> S getPropertyValue(P property) {
+
+			PropertySlot<P> slot = slotsByProperty.get(property);
+
+			if (slot == null) {
+				throw new MappingException(String.format("No property %s found on entity %s!", property, entity.getType()));
+			}
+
+			return (S) slot.read(document, conversionService);
+		}
+	}
+
+	/**
+	 * A property to be read and written along with the precomputed metadata for it and the conversions used so far.
+	 *
+	 * @author agent
+	 * @since 2.1
+	 */
+	private static class PropertySlot<P extends PersistentProperty<P>> {
+
+		private final P property;
+		private final String key;
+		private final boolean constructorArgument;
+		private final Class<?> type;
+		private final TypeDescriptor descriptor;
+		private final boolean convertElements;
+
+		private final Map<Class<?>, Conversion> readConversions = new ConcurrentHashMap<>(4);
+		private final Map<Class<?>, Conversion> writeConversions = new ConcurrentHashMap<>(4);
+
+		PropertySlot(P property, String key, boolean constructorArgument) {
+
+			this.property = property;
+			this.key = key;
+			this.constructorArgument = constructorArgument;
+			this.type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			this.descriptor = getTypeDescriptor(property);
+			this.convertElements = requiresElementConversion(descriptor);
+		}
+
+		/**
+		 * Reads the value for the property from the given {@link KeyValueDocument} converting it to the property type if
+		 * necessary. Collections, maps and arrays are always converted if the property declares a specific element type as
+		 * their elements might be of a different type.
+		 */
+		@Nullable
+		Object read(KeyValueDocument document, ConversionService conversionService) {
+
+			Object value = document.get(key);
+
+			if (value == null || value.getClass() == type) {
+				return value;
+			}
+
+			Conversion conversion = readConversions.computeIfAbsent(value.getClass(),
+					it -> new Conversion(it, type.isAssignableFrom(it) && !convertElements ? null : descriptor));
+
+			return conversion.convert(value, conversionService);
+		}
+
+		/**
+		 * Converts the given property value into the store type registered through a custom conversion, if any.
+		 */
+		Object write(Object value, CustomConversions conversions, ConversionService conversionService) {
+
+			Conversion conversion = writeConversions.computeIfAbsent(value.getClass(), it -> new Conversion(it,
+					conversions.getCustomWriteTarget(it).map(TypeDescriptor::valueOf).orElse(null)));
+
+			return conversion.convert(value, conversionService);
+		}
+
+		/**
+		 * Returns the {@link TypeDescriptor} of the member backing the given property, resolving generics against the
+		 * owning type.
+		 */
+		private static TypeDescriptor getTypeDescriptor(PersistentProperty<?> property) {
+
+			Class<?> owner = property.getOwner().getType();
+			Field field = property.getField();
+			Method getter = property.getGetter();
+
+			if (field != null) {
+				return new TypeDescriptor(ResolvableType.forField(field, owner), null, field.getAnnotations());
+			}
+
+			if (getter != null) {
+				return new TypeDescriptor(ResolvableType.forMethodReturnType(getter, owner), null, getter.getAnnotations());
+			}
+
+			return TypeDescriptor.valueOf(property.getType());
+		}
+
+		private static boolean requiresElementConversion(TypeDescriptor descriptor) {
+
+			if (descriptor.isMap()) {
+				return isSpecific(descriptor.getMapKeyTypeDescriptor()) || isSpecific(descriptor.getMapValueTypeDescriptor());
+			}
+
+			return isSpecific(descriptor.getElementTypeDescriptor());
+		}
+
+		private static boolean isSpecific(@Nullable TypeDescriptor descriptor) {
+			return descriptor != null && !Object.class.equals(descriptor.getType());
+		}
+	}
+
+	/**
+	 * Conversion of values of a particular source type into a target type, if one is necessary.
+	 *
+	 * @author agent
+	 * @since 2.1
+	 */
+	private static class Conversion {
+
+		private final @Nullable TypeDescriptor sourceDescriptor;
+		private final @Nullable TypeDescriptor targetDescriptor;
+
+		Conversion(Class<?> sourceType, @Nullable TypeDescriptor targetDescriptor) {
+
+			this.sourceDescriptor = targetDescriptor == null ? null : TypeDescriptor.valueOf(sourceType);
+			this.targetDescriptor = targetDescriptor;
+		}
+
+		@SuppressWarnings("null")
+		Object convert(Object value, ConversionService conversionService) {
+			return targetDescriptor == null ? value : conversionService.convert(value, sourceDescriptor, targetDescriptor);
+		}
+	}
+}
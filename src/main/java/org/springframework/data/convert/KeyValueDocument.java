@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * SPI for store specific, generic key/value representations of an entity that an {@link EntityMappingPlan} reads
+ * from and writes to.
+ *
+ * @author agent
+ * @since 2.1
+ * @see EntityMappingPlan
+ */
+public interface KeyValueDocument {
+
+	/**
+	 * Creates a new {@link KeyValueDocument} backed by the given {@link Map}.
+	 *
+	 * @param map must not be {@literal null}.
+	 * @return
+	 */
+	static KeyValueDocument of(Map<String, Object> map) {
+		return new MapKeyValueDocument(map);
+	}
+
+	/**
+	 * Returns the value stored for the given key.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @return the value or {@literal null} if no value is stored for the key.
+	 */
+	@Nullable
+	Object get(String key);
+
+	/**
+	 * Stores the given value for the given key.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @param value will never be {@literal null}.
+	 */
+	void put(String key, Object value);
+}
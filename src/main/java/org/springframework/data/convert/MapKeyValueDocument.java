@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link KeyValueDocument} backed by a {@link Map}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@RequiredArgsConstructor
+class MapKeyValueDocument implements KeyValueDocument {
+
+	private final @NonNull Map<String, Object> map;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.KeyValueDocument#get(java.lang.String)
+	 */
+	@Nullable
+	@Override
+	public Object get(String key) {
+		return map.get(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.KeyValueDocument#put(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void put(String key, Object value) {
+		map.put(key, value);
+	}
+}
@@ -54,7 +54,9 @@ public class MappingContextTypeInformationMapper implements TypeInformationMappe
 		this.mappingContext = mappingContext;
 
 		for (PersistentEntity<?, ?> entity : mappingContext.getPersistentEntities()) {
-			verify(entity.getTypeInformation().getRawTypeInformation(), entity.getTypeAlias());
+
+			ClassTypeInformation<?> key = entity.getTypeInformation().getRawTypeInformation();
+			typeMap.put(key, verify(key, entity.getTypeAlias()));
 		}
 	}
 
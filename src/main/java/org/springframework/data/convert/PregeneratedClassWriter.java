@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.AbstractMappingContext;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.data.mapping.model.PregeneratedClassIndex;
+import org.springframework.data.util.AnnotatedTypeScanner;
+import org.springframework.data.util.Pair;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Build-time tool to generate the property accessor and instantiator classes otherwise generated at runtime by
+ * {@link ClassGeneratingPropertyAccessorFactory} and {@link ClassGeneratingEntityInstantiator}. The class files are
+ * written next to the compiled entity types and listed in a {@link PregeneratedClassIndex} resource written to the
+ * same output directory. Listed classes are picked up from the entity's {@link ClassLoader} at runtime. This
+ * avoids the cost of generating and defining classes at runtime and allows the usage of generated accessors in
+ * environments that prohibit runtime class definition. Classes generated for an outdated set of properties or
+ * constructor are ignored and generated at runtime as before.
+ * <p>
+ * Typically invoked after compilation, e.g. by using the {@code exec-maven-plugin} in the {@code process-classes}
+ * phase. Supported arguments are {@code --output} (the class output directory), {@code --packages} (comma separated
+ * base packages to scan), {@code --annotations} (comma separated fully qualified annotation types identifying the
+ * types to generate classes for, defaults to {@link Persistent} and all annotations meta-annotated with it) and
+ * {@code --mapping-context} (the fully qualified name of the store-specific {@link AbstractMappingContext}
+ * implementation to use, requires a default constructor).
+ *
+ * @author agent
+ * @since 2.1
+ */
+public class PregeneratedClassWriter {
+
+	private static final String OUTPUT = "--output=";
+	private static final String PACKAGES = "--packages=";
+	private static final String ANNOTATIONS = "--annotations=";
+	private static final String MAPPING_CONTEXT = "--mapping-context=";
+
+	private final ClassGeneratingPropertyAccessorFactory accessorFactory = new ClassGeneratingPropertyAccessorFactory();
+	private final ClassGeneratingEntityInstantiator instantiator = new ClassGeneratingEntityInstantiator();
+
+	/**
+	 * Scans the configured packages, sets up the configured {@link MappingContext} for all types found and writes the
+	 * generated classes for all of its {@link PersistentEntity}s.
+	 *
+	 * @param args
+	 * @throws Exception
+	 */
+	@SuppressWarnings("unchecked")
+	public static void main(String[] args) throws Exception {
+
+		String output = null;
+		String mappingContext = null;
+		String[] packages = new String[0];
+		List<Class<? extends Annotation>> annotations = new ArrayList<>();
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+		for (String arg : args) {
+
+			if (arg.startsWith(OUTPUT)) {
+				output = arg.substring(OUTPUT.length());
+			} else if (arg.startsWith(PACKAGES)) {
+				packages = StringUtils.commaDelimitedListToStringArray(arg.substring(PACKAGES.length()));
+			} else if (arg.startsWith(MAPPING_CONTEXT)) {
+				mappingContext = arg.substring(MAPPING_CONTEXT.length());
+			} else if (arg.startsWith(ANNOTATIONS)) {
+				for (String name : StringUtils.commaDelimitedListToStringArray(arg.substring(ANNOTATIONS.length()))) {
+					annotations.add((Class<? extends Annotation>) ClassUtils.forName(name.trim(), classLoader));
+				}
+			} else {
+				throw new IllegalArgumentException(String.format("Unknown argument %s!", arg));
+			}
+		}
+
+		Assert.hasText(output, "No output directory given! Use " + OUTPUT + "<directory>.");
+		Assert.notEmpty(packages, "No packages to scan given! Use " + PACKAGES + "<package>[,<package>].");
+		Assert.hasText(mappingContext, "No mapping context given! Use " + MAPPING_CONTEXT + "<type>.");
+
+		if (annotations.isEmpty()) {
+			annotations.add(Persistent.class);
+		}
+
+		AnnotatedTypeScanner scanner = new AnnotatedTypeScanner(annotations.toArray(new Class[annotations.size()]));
+
+		AbstractMappingContext<?, ?> context = BeanUtils
+				.instantiateClass(ClassUtils.forName(mappingContext, classLoader), AbstractMappingContext.class);
+		context.setInitialEntitySet(scanner.findTypes(packages));
+		context.initialize();
+
+		new PregeneratedClassWriter().write(context, new File(output));
+	}
+
+	/**
+	 * Writes the generated classes for all {@link PersistentEntity}s of the given {@link MappingContext} into the given
+	 * class output directory along with the {@link PregeneratedClassIndex} listing them.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param outputDirectory must not be {@literal null}.
+	 * @return the class files written.
+	 * @throws IOException
+	 */
+	public List<File> write(MappingContext<?, ?> context, File outputDirectory) throws IOException {
+
+		Assert.notNull(context, "MappingContext must not be null!");
+		Assert.notNull(outputDirectory, "Output directory must not be null!");
+
+		List<File> files = new ArrayList<>();
+		StringBuilder index = new StringBuilder();
+
+		for (PersistentEntity<?, ?> entity : context.getPersistentEntities()) {
+
+			String typeName = entity.getType().getName();
+			Optional<Pair<String, byte[]>> accessorClass = accessorFactory.generateAccessorClass(entity);
+
+			if (accessorClass.isPresent()) {
+				files.add(write(accessorClass.get(), outputDirectory));
+				index.append(accessorClass.get().getFirst()).append('=').append(typeName).append('\n');
+			}
+
+			Optional<Pair<String, byte[]>> instantiatorClass = instantiator.generateInstantiatorClass(entity);
+
+			if (instantiatorClass.isPresent()) {
+				files.add(write(instantiatorClass.get(), outputDirectory));
+				index.append(instantiatorClass.get().getFirst()).append('=').append(typeName).append('\n');
+			}
+		}
+
+		File indexFile = new File(outputDirectory, PregeneratedClassIndex.INDEX_LOCATION);
+
+		Files.createDirectories(indexFile.getParentFile().toPath());
+		Files.write(indexFile.toPath(), index.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+		return files;
+	}
+
+	private static File write(Pair<String, byte[]> generatedClass, File outputDirectory) throws IOException {
+
+		File file = new File(outputDirectory, generatedClass.getFirst().replace('.', File.separatorChar) + ".class");
+
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), generatedClass.getSecond());
+
+		return file;
+	}
+}
@@ -25,7 +25,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.ConstructorParameterPlan;
 import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 
@@ -70,9 +70,10 @@ public enum ReflectionEntityInstantiator implements EntityInstantiator {
 		int parameterCount = constructor.getConstructor().getParameterCount();
 
 		Object[] params = parameterCount == 0 ? EMPTY_ARGS : new Object[parameterCount];
-		int i = 0;
-		for (Parameter<?, P> parameter : constructor.getParameters()) {
-			params[i++] = provider.getParameterValue(parameter);
+		ConstructorParameterPlan<P> plan = ConstructorParameterPlan.of(entity);
+
+		for (int i = 0; i < plan.getParameterCount(); i++) {
+			params[i] = plan.getParameterValue(i, provider);
 		}
 
 		try {
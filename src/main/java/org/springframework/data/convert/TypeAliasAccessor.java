@@ -16,6 +16,7 @@
 package org.springframework.data.convert;
 
 import org.springframework.data.mapping.Alias;
+import org.springframework.lang.Nullable;
 
 /**
  * Interface to abstract implementations of how to access a type alias from a given source or sink.
@@ -32,6 +33,24 @@ public interface TypeAliasAccessor<S> {
 	 */
 	Alias readAliasFrom(S source);
 
+	/**
+	 * Reads the raw type alias value from the given source without wrapping it into an {@link Alias}. Used by
+	 * {@link DefaultTypeMapper} to look up the type for an alias on every read. Implementations are encouraged to
+	 * override this method to hand out the value stored in the source directly. The value needs to implement
+	 * {@link Object#equals(Object)} and {@link Object#hashCode()} the same way as required for {@link Alias} values.
+	 *
+	 * @param source
+	 * @return the alias value or {@literal null} in case no alias was found.
+	 * @since 2.1
+	 */
+	@Nullable
+	default Object readRawAliasFrom(S source) {
+
+		Alias alias = readAliasFrom(source);
+
+		return alias == null ? null : alias.getValue();
+	}
+
 	/**
 	 * Writes the given type alias to the given sink.
 	 *
@@ -49,6 +49,104 @@ public interface PersistentPropertyAccessor {
 	@Nullable
 	Object getProperty(PersistentProperty<?> property);
 
+	/**
+	 * Returns the value of the given {@code int} {@link PersistentProperty} of the underlying bean instance. The default
+	 * implementation unboxes the value returned by {@link #getProperty(PersistentProperty)}, implementations are
+	 * encouraged to read primitive properties without boxing.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the property value.
+	 * @since 2.1
+	 */
+	default int getInt(PersistentProperty<?> property) {
+		return ((Number) getProperty(property)).intValue();
+	}
+
+	/**
+	 * Returns the value of the given {@code long} {@link PersistentProperty} of the underlying bean instance.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the property value.
+	 * @since 2.1
+	 * @see #getInt(PersistentProperty)
+	 */
+	default long getLong(PersistentProperty<?> property) {
+		return ((Number) getProperty(property)).longValue();
+	}
+
+	/**
+	 * Returns the value of the given {@code double} {@link PersistentProperty} of the underlying bean instance.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the property value.
+	 * @since 2.1
+	 * @see #getInt(PersistentProperty)
+	 */
+	default double getDouble(PersistentProperty<?> property) {
+		return ((Number) getProperty(property)).doubleValue();
+	}
+
+	/**
+	 * Returns the value of the given {@code boolean} {@link PersistentProperty} of the underlying bean instance.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the property value.
+	 * @since 2.1
+	 * @see #getInt(PersistentProperty)
+	 */
+	default boolean getBoolean(PersistentProperty<?> property) {
+		return (Boolean) getProperty(property);
+	}
+
+	/**
+	 * Sets the given {@code int} {@link PersistentProperty} to the given value. The default implementation boxes the
+	 * value and delegates to {@link #setProperty(PersistentProperty, Object)}, implementations are encouraged to write
+	 * primitive properties without boxing.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value the value to set.
+	 * @since 2.1
+	 */
+	default void setInt(PersistentProperty<?> property, int value) {
+		setProperty(property, value);
+	}
+
+	/**
+	 * Sets the given {@code long} {@link PersistentProperty} to the given value.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value the value to set.
+	 * @since 2.1
+	 * @see #setInt(PersistentProperty, int)
+	 */
+	default void setLong(PersistentProperty<?> property, long value) {
+		setProperty(property, value);
+	}
+
+	/**
+	 * Sets the given {@code double} {@link PersistentProperty} to the given value.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value the value to set.
+	 * @since 2.1
+	 * @see #setInt(PersistentProperty, int)
+	 */
+	default void setDouble(PersistentProperty<?> property, double value) {
+		setProperty(property, value);
+	}
+
+	/**
+	 * Sets the given {@code boolean} {@link PersistentProperty} to the given value.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value the value to set.
+	 * @since 2.1
+	 * @see #setInt(PersistentProperty, int)
+	 */
+	default void setBoolean(PersistentProperty<?> property, boolean value) {
+		setProperty(property, value);
+	}
+
 	/**
 	 * Returns the underlying bean.
 	 *
@@ -15,28 +15,31 @@
  */
 package org.springframework.data.mapping.context;
 
-import lombok.AccessLevel;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
@@ -47,6 +50,7 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.data.mapping.model.MappingMetadataIndex;
 import org.springframework.data.mapping.model.MutablePersistentEntity;
 import org.springframework.data.mapping.model.PersistentPropertyAccessorFactory;
 import org.springframework.data.mapping.model.Property;
@@ -60,7 +64,6 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.util.ReflectionUtils.FieldCallback;
 import org.springframework.util.ReflectionUtils.FieldFilter;
 import org.springframework.util.StringUtils;
 
@@ -68,8 +71,10 @@ import org.springframework.util.StringUtils;
  * Base class to build mapping metadata and thus create instances of {@link PersistentEntity} and
  * {@link PersistentProperty}.
  * <p>
- * The implementation uses a {@link ReentrantReadWriteLock} to make sure {@link PersistentEntity} are completely
- * populated before accessing them from outside.
+ * The implementation uses a {@link ReentrantLock} to make sure {@link PersistentEntity} are completely populated
+ * before accessing them from outside. Entities are only published to the lookup cache once they are fully
+ * initialized, so that lookups of already known types don't have to acquire any lock at all. Entities currently in
+ * creation are only visible to the thread holding the lock (i.e. for recursive lookups).
  *
  * @param <E> the concrete {@link PersistentEntity} type the {@link MappingContext} implementation creates
  * @param <P> the concrete {@link PersistentProperty} type the {@link MappingContext} implementation creates
@@ -85,8 +90,12 @@ import org.springframework.util.StringUtils;
 public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?, P>, P extends PersistentProperty<P>>
 		implements MappingContext<E, P>, ApplicationEventPublisherAware, InitializingBean {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractMappingContext.class);
+
 	private final Optional<E> NONE = Optional.empty();
-	private final Map<TypeInformation<?>, Optional<E>> persistentEntities = new HashMap<>();
+	private final Map<TypeInformation<?>, Optional<E>> persistentEntities = new ConcurrentHashMap<>();
+	private final Map<TypeInformation<?>, Optional<E>> entitiesInCreation = new HashMap<>();
+	private final Map<TypeInformation<?>, List<Property>> introspectedProperties = new ConcurrentHashMap<>();
 	private final Map<TypeAndProperties, PersistentPropertyPath<P>> propertyPaths = new ConcurrentReferenceHashMap<>();
 	private final PersistentPropertyAccessorFactory persistentPropertyAccessorFactory = new ClassGeneratingPropertyAccessorFactory();
 
@@ -94,11 +103,10 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 	private Set<? extends Class<?>> initialEntitySet = new HashSet<>();
 	private boolean strict = false;
+	private boolean parallelInitialization = false;
 	private SimpleTypeHolder simpleTypeHolder = SimpleTypeHolder.DEFAULT;
 
-	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-	private final Lock read = lock.readLock();
-	private final Lock write = lock.writeLock();
+	private final ReentrantLock lock = new ReentrantLock();
 
 	/*
 	 * (non-Javadoc)
@@ -130,6 +138,19 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		this.strict = strict;
 	}
 
+	/**
+	 * Configures whether the initial entity set shall be initialized in parallel. If enabled, the reflective
+	 * introspection of the types configured through {@link #setInitialEntitySet(Set)} is performed on the common
+	 * {@link java.util.concurrent.ForkJoinPool} before the {@link PersistentEntity} instances are created and published.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param parallelInitialization
+	 * @since 2.1
+	 */
+	public void setParallelInitialization(boolean parallelInitialization) {
+		this.parallelInitialization = parallelInitialization;
+	}
+
 	/**
 	 * Configures the {@link SimpleTypeHolder} to be used by the {@link MappingContext}. Allows customization of what
 	 * types will be regarded as simple types and thus not recursively analyzed.
@@ -150,17 +171,9 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 	@Override
 	public Collection<E> getPersistentEntities() {
 
-		try {
-
-			read.lock();
-
-			return persistentEntities.values().stream()//
-					.flatMap(Optionals::toStream)//
-					.collect(Collectors.toSet());
-
-		} finally {
-			read.unlock();
-		}
+		return persistentEntities.values().stream()//
+				.flatMap(Optionals::toStream)//
+				.collect(Collectors.toSet());
 	}
 
 	/*
@@ -196,28 +209,15 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		Assert.notNull(type, "Type must not be null!");
 
-		try {
-
-			read.lock();
-
-			Optional<E> entity = persistentEntities.get(type);
-
-			if (entity != null) {
-				return entity.orElse(null);
-			}
+		Optional<E> entity = getCachedPersistentEntity(type);
 
-		} finally {
-			read.unlock();
+		if (entity != null) {
+			return entity.orElse(null);
 		}
 
 		if (!shouldCreatePersistentEntityFor(type)) {
 
-			try {
-				write.lock();
-				persistentEntities.put(type, NONE);
-			} finally {
-				write.unlock();
-			}
+			persistentEntities.putIfAbsent(type, NONE);
 
 			return null;
 		}
@@ -359,68 +359,180 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 		Assert.notNull(typeInformation, "TypeInformation must not be null!");
 
+		Optional<E> persistentEntity = persistentEntities.get(typeInformation);
+
+		if (persistentEntity != null) {
+			return persistentEntity;
+		}
+
+		E entity;
+
 		try {
 
-			read.lock();
+			lock.lock();
 
-			Optional<E> persistentEntity = persistentEntities.get(typeInformation);
+			// Another thread might have created the entity in the meantime or we're in a recursive lookup
+			persistentEntity = getCachedPersistentEntity(typeInformation);
 
 			if (persistentEntity != null) {
 				return persistentEntity;
 			}
 
+			entity = doAddPersistentEntity(typeInformation);
+
 		} finally {
-			read.unlock();
+			lock.unlock();
 		}
 
-		Class<?> type = typeInformation.getType();
-		E entity = null;
+		// Inform listeners
+		if (applicationEventPublisher != null) {
+			applicationEventPublisher.publishEvent(new MappingContextEvent<>(this, entity));
+		}
 
-		try {
+		return Optional.of(entity);
+	}
 
-			write.lock();
+	/**
+	 * Creates and populates the {@link PersistentEntity} for the given {@link TypeInformation} and publishes it to the
+	 * lookup cache once it's completely initialized. Must only be called while holding the lock.
+	 *
+	 * @param typeInformation must not be {@literal null}.
+	 * @return
+	 */
+	private E doAddPersistentEntity(TypeInformation<?> typeInformation) {
+
+		try {
 
-			entity = createPersistentEntity(typeInformation);
+			E entity = createPersistentEntity(typeInformation);
+			Optional<E> result = Optional.of(entity);
 
-			// Eagerly cache the entity as we might have to find it during recursive lookups.
-			persistentEntities.put(typeInformation, Optional.of(entity));
+			// Eagerly register the entity as we might have to find it during recursive lookups.
+			entitiesInCreation.put(typeInformation, result);
 
-			PropertyDescriptor[] pds = BeanUtils.getPropertyDescriptors(type);
+			List<Property> properties = introspectedProperties.remove(typeInformation);
 
-			final Map<String, PropertyDescriptor> descriptors = new HashMap<>();
-			for (PropertyDescriptor descriptor : pds) {
-				descriptors.put(descriptor.getName(), descriptor);
+			if (properties == null) {
+				properties = introspectProperties(typeInformation);
 			}
 
-			try {
+			for (Property property : properties) {
+				createAndRegisterProperty(property, entity);
+			}
 
-				PersistentPropertyCreator persistentPropertyCreator = new PersistentPropertyCreator(entity, descriptors);
-				ReflectionUtils.doWithFields(type, persistentPropertyCreator, PersistentPropertyFilter.INSTANCE);
-				persistentPropertyCreator.addPropertiesForRemainingDescriptors();
+			entity.verify();
 
-				entity.verify();
+			if (persistentPropertyAccessorFactory.isSupported(entity)) {
+				entity.setPersistentPropertyAccessorFactory(persistentPropertyAccessorFactory);
+			}
 
-				if (persistentPropertyAccessorFactory.isSupported(entity)) {
-					entity.setPersistentPropertyAccessorFactory(persistentPropertyAccessorFactory);
-				}
+			// Publish the fully initialized entity to lock-free readers.
+			persistentEntities.put(typeInformation, result);
 
-			} catch (MappingException e) {
-				persistentEntities.remove(typeInformation);
-				throw e;
-			}
+			return entity;
 
 		} catch (BeansException e) {
 			throw new MappingException(e.getMessage(), e);
 		} finally {
-			write.unlock();
+			entitiesInCreation.remove(typeInformation);
 		}
+	}
 
-		// Inform listeners
-		if (applicationEventPublisher != null && entity != null) {
-			applicationEventPublisher.publishEvent(new MappingContextEvent<>(this, entity));
+	/**
+	 * Returns the {@link PropertyDescriptor}s of the given type, preferring the ones precomputed at build time.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @see MappingMetadataIndex
+	 */
+	private static PropertyDescriptor[] getPropertyDescriptors(Class<?> type) {
+
+		PropertyDescriptor[] descriptors = MappingMetadataIndex.forClassLoader(type.getClassLoader())
+				.getPropertyDescriptors(type);
+
+		return descriptors != null ? descriptors : BeanUtils.getPropertyDescriptors(type);
+	}
+
+	/**
+	 * Discovers the {@link Property} instances to potentially create {@link PersistentProperty} instances for. Considers
+	 * all non-static fields as well as {@link PropertyDescriptor}s without a backing {@link Field}. Only inspects the
+	 * given type reflectively, i.e. doesn't access any state of the {@link MappingContext}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @see PersistentPropertyFilter
+	 */
+	private static List<Property> introspectProperties(TypeInformation<?> type) {
+
+		Class<?> rawType = type.getType();
+		Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+
+		for (PropertyDescriptor descriptor : getPropertyDescriptors(rawType)) {
+			descriptors.put(descriptor.getName(), descriptor);
 		}
 
-		return Optional.of(entity);
+		List<Property> properties = new ArrayList<>();
+
+		ReflectionUtils.doWithFields(rawType, field -> {
+
+			ReflectionUtils.makeAccessible(field);
+
+			PropertyDescriptor descriptor = descriptors.remove(field.getName());
+
+			properties.add(descriptor == null ? Property.of(type, field) : Property.of(type, field, descriptor));
+
+		}, PersistentPropertyFilter.INSTANCE);
+
+		descriptors.values().stream() //
+				.filter(Property::supportsStandalone) //
+				.map(it -> Property.of(type, it)) //
+				.filter(PersistentPropertyFilter.INSTANCE::matches) //
+				.forEach(properties::add);
+
+		return properties;
+	}
+
+	private void createAndRegisterProperty(Property input, E entity) {
+
+		P property = createPersistentProperty(input, entity, simpleTypeHolder);
+
+		if (property.isTransient()) {
+			return;
+		}
+
+		if (!input.isFieldBacked() && !property.usePropertyAccess()) {
+			return;
+		}
+
+		entity.addPersistentProperty(property);
+
+		if (property.isAssociation()) {
+			entity.addAssociation(property.getRequiredAssociation());
+		}
+
+		if (entity.getType().equals(property.getRawType())) {
+			return;
+		}
+
+		property.getPersistentEntityTypes().forEach(this::addPersistentEntity);
+	}
+
+	/**
+	 * Returns the cached {@link PersistentEntity} lookup result for the given {@link TypeInformation}. Entities that are
+	 * still in creation are only considered for the thread currently holding the lock.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the cached lookup result or {@literal null} if the type hasn't been inspected yet.
+	 */
+	@Nullable
+	private Optional<E> getCachedPersistentEntity(TypeInformation<?> type) {
+
+		Optional<E> entity = persistentEntities.get(type);
+
+		if (entity != null || !lock.isHeldByCurrentThread()) {
+			return entity;
+		}
+
+		return entitiesInCreation.get(type);
 	}
 
 	/*
@@ -429,15 +541,7 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 	 */
 	@Override
 	public Collection<TypeInformation<?>> getManagedTypes() {
-
-		try {
-
-			read.lock();
-			return Collections.unmodifiableSet(new HashSet<>(persistentEntities.keySet()));
-
-		} finally {
-			read.unlock();
-		}
+		return Collections.unmodifiableSet(new HashSet<>(persistentEntities.keySet()));
 	}
 
 	/**
@@ -471,106 +575,95 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 	/**
 	 * Initializes the mapping context. Will add the types configured through {@link #setInitialEntitySet(Set)} to the
 	 * context.
-	 */
-	public void initialize() {
-		initialEntitySet.forEach(this::addPersistentEntity);
-	}
-
-	/**
-	 * Returns whether a {@link PersistentEntity} instance should be created for the given {@link TypeInformation}. By
-	 * default this will reject all types considered simple and non-supported Kotlin classes, but it might be necessary to
-	 * tweak that in case you have registered custom converters for top level types (which renders them to be considered
-	 * simple) but still need meta-information about them.
-	 * <p/>
 	 *
-	 * @param type will never be {@literal null}.
-	 * @return
+	 * @see #setParallelInitialization(boolean)
 	 */
-	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> type) {
+	public void initialize() {
 
-		if (simpleTypeHolder.isSimpleType(type.getType())) {
-			return false;
-		}
+		long start = System.nanoTime();
+		Map<Class<?>, Long> introspectionTimes = parallelInitialization && initialEntitySet.size() > 1
+				? introspectInParallel(initialEntitySet)
+				: Collections.emptyMap();
+		Map<Class<?>, Long> creationTimes = new LinkedHashMap<>(initialEntitySet.size());
 
-		return !org.springframework.data.util.ReflectionUtils.isKotlinClass(type.getType())
-				|| org.springframework.data.util.ReflectionUtils.isSupportedKotlinClass(type.getType());
-	}
+		try {
 
-	/**
-	 * {@link FieldCallback} to create {@link PersistentProperty} instances.
-	 *
-	 * @author Oliver Gierke
-	 */
-	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-	private final class PersistentPropertyCreator implements FieldCallback {
+			for (Class<?> type : initialEntitySet) {
 
-		private final @NonNull E entity;
-		private final @NonNull Map<String, PropertyDescriptor> descriptors;
-		private final @NonNull Map<String, PropertyDescriptor> remainingDescriptors;
+				long entityStart = System.nanoTime();
+				addPersistentEntity(type);
+				creationTimes.put(type, System.nanoTime() - entityStart);
+			}
 
-		public PersistentPropertyCreator(E entity, Map<String, PropertyDescriptor> descriptors) {
-			this(entity, descriptors, descriptors);
+		} finally {
+			introspectedProperties.clear();
 		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.util.ReflectionUtils.FieldCallback#doWith(java.lang.reflect.Field)
-		 */
-		public void doWith(Field field) {
-
-			String fieldName = field.getName();
-			TypeInformation<?> type = entity.getTypeInformation();
-
-			ReflectionUtils.makeAccessible(field);
-
-			Property property = Optional.ofNullable(descriptors.get(fieldName))//
-					.map(it -> Property.of(type, field, it))//
-					.orElseGet(() -> Property.of(type, field));
-
-			createAndRegisterProperty(property);
-
-			this.remainingDescriptors.remove(fieldName);
+		if (LOGGER.isDebugEnabled()) {
+			logInitializationReport(System.nanoTime() - start, introspectionTimes, creationTimes);
 		}
+	}
 
-		/**
-		 * Adds {@link PersistentProperty} instances for all suitable {@link PropertyDescriptor}s without a backing
-		 * {@link Field}.
-		 *
-		 * @see PersistentPropertyFilter
-		 */
-		public void addPropertiesForRemainingDescriptors() {
+	/**
+	 * Reflectively introspects the given types on the common {@link java.util.concurrent.ForkJoinPool} so that the
+	 * subsequent entity creation can use the already discovered {@link Property} instances.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return the introspection time in nanoseconds per type.
+	 */
+	private Map<Class<?>, Long> introspectInParallel(Set<? extends Class<?>> types) {
 
-			remainingDescriptors.values().stream() //
-					.filter(Property::supportsStandalone) //
-					.map(it -> Property.of(entity.getTypeInformation(), it)) //
-					.filter(PersistentPropertyFilter.INSTANCE::matches) //
-					.forEach(this::createAndRegisterProperty);
-		}
+		Map<Class<?>, Long> times = new ConcurrentHashMap<>(types.size());
 
-		private void createAndRegisterProperty(Property input) {
+		types.parallelStream().forEach(type -> {
 
-			P property = createPersistentProperty(input, entity, simpleTypeHolder);
+			long start = System.nanoTime();
+			TypeInformation<?> typeInformation = ClassTypeInformation.from(type);
 
-			if (property.isTransient()) {
+			try {
+				introspectedProperties.put(typeInformation, introspectProperties(typeInformation));
+			} catch (RuntimeException o_O) {
+				// Introspection is repeated on entity creation which reports the error consistently
 				return;
 			}
 
-			if (!input.isFieldBacked() && !property.usePropertyAccess()) {
-				return;
-			}
+			times.put(type, System.nanoTime() - start);
+		});
 
-			entity.addPersistentProperty(property);
+		return times;
+	}
 
-			if (property.isAssociation()) {
-				entity.addAssociation(property.getRequiredAssociation());
-			}
+	private static void logInitializationReport(long totalTime, Map<Class<?>, Long> introspectionTimes,
+			Map<Class<?>, Long> creationTimes) {
 
-			if (entity.getType().equals(property.getRawType())) {
-				return;
-			}
+		LOGGER.debug("Initialized {} persistent entities in {} ms.", creationTimes.size(),
+				TimeUnit.NANOSECONDS.toMillis(totalTime));
+
+		creationTimes.entrySet().stream() //
+				.sorted(Entry.<Class<?>, Long> comparingByValue().reversed()) //
+				.forEach(it -> LOGGER.debug("{}: introspection {} \u00b5s, creation {} \u00b5s.", it.getKey().getName(),
+						TimeUnit.NANOSECONDS.toMicros(introspectionTimes.getOrDefault(it.getKey(), 0L)),
+						TimeUnit.NANOSECONDS.toMicros(it.getValue())));
+	}
 
-			property.getPersistentEntityTypes().forEach(AbstractMappingContext.this::addPersistentEntity);
+	/**
+	 * Returns whether a {@link PersistentEntity} instance should be created for the given {@link TypeInformation}. By
+	 * default this will reject all types considered simple and non-supported Kotlin classes, but it might be necessary to
+	 * tweak that in case you have registered custom converters for top level types (which renders them to be considered
+	 * simple) but still need meta-information about them.
+	 * <p/>
+	 *
+	 * @param type will never be {@literal null}.
+	 * @return
+	 */
+	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> type) {
+
+		if (simpleTypeHolder.isSimpleType(type.getType())) {
+			return false;
 		}
+
+		return !org.springframework.data.util.ReflectionUtils.isKotlinClass(type.getType())
+				|| org.springframework.data.util.ReflectionUtils.isSupportedKotlinClass(type.getType());
 	}
 
 	@Value(staticConstructor = "of")
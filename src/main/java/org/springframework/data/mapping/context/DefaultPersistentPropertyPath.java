@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -38,6 +39,7 @@ class DefaultPersistentPropertyPath<P extends PersistentProperty<P>> implements
 	private static final String DEFAULT_DELIMITER = ".";
 
 	private final List<P> properties;
+	private final Lazy<PersistentPropertyPathAccessor> accessor;
 
 	/**
 	 * Creates a new {@link DefaultPersistentPropertyPath} for the given {@link PersistentProperty}s.
@@ -49,6 +51,7 @@ class DefaultPersistentPropertyPath<P extends PersistentProperty<P>> implements
 		Assert.notNull(properties, "Properties must not be null!");
 
 		this.properties = properties;
+		this.accessor = Lazy.of(() -> new DefaultPersistentPropertyPathAccessor(this));
 	}
 
 	/**
@@ -245,6 +248,15 @@ class DefaultPersistentPropertyPath<P extends PersistentProperty<P>> implements
 		return properties.isEmpty();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.context.PersistentPropertyPath#getAccessor()
+	 */
+	@Override
+	public PersistentPropertyPathAccessor getAccessor() {
+		return accessor.get();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PersistentPropertyPathAccessor} that resolves the owning {@link PersistentEntity} of each path segment once
+ * and then navigates the path through the {@link org.springframework.data.mapping.PersistentPropertyAccessor}s the
+ * entities expose (usually generated ones) without any further metadata lookups.
+ *
+ * @author agent
+ * @since 2.1
+ */
+class DefaultPersistentPropertyPathAccessor implements PersistentPropertyPathAccessor {
+
+	private final String path;
+	private final PersistentProperty<?>[] properties;
+	private final PersistentEntity<?, ?>[] owners;
+
+	/**
+	 * Creates a new {@link DefaultPersistentPropertyPathAccessor} for the given {@link PersistentPropertyPath}.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @throws MappingException in case the path navigates through collection-like or {@link java.util.Map} properties.
+	 */
+	DefaultPersistentPropertyPathAccessor(PersistentPropertyPath<? extends PersistentProperty<?>> path) {
+
+		Assert.notNull(path, "PersistentPropertyPath must not be null!");
+		Assert.isTrue(!path.isEmpty(), "PersistentPropertyPath must not be empty!");
+
+		int length = path.getLength();
+
+		this.path = path.toDotPath();
+		this.properties = new PersistentProperty<?>[length];
+		this.owners = new PersistentEntity<?, ?>[length];
+
+		int index = 0;
+
+		for (PersistentProperty<?> property : path) {
+
+			if (index < length - 1 && (property.isCollectionLike() || property.isMap())) {
+				throw new MappingException(String.format("Cannot navigate path %s through collection-like property %s!",
+						this.path, property.getName()));
+			}
+
+			this.properties[index] = property;
+			this.owners[index] = property.getOwner();
+			index++;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.context.PersistentPropertyPathAccessor#getProperty(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public Object getProperty(Object bean) {
+
+		Assert.notNull(bean, "Bean must not be null!");
+
+		Object current = bean;
+
+		for (int i = 0; i < properties.length; i++) {
+
+			if (current == null) {
+				return null;
+			}
+
+			current = owners[i].getPropertyAccessor(current).getProperty(properties[i]);
+		}
+
+		return current;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.context.PersistentPropertyPathAccessor#setProperty(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void setProperty(Object bean, @Nullable Object value) {
+
+		Assert.notNull(bean, "Bean must not be null!");
+
+		int leaf = properties.length - 1;
+		Object current = bean;
+
+		for (int i = 0; i < leaf; i++) {
+
+			current = owners[i].getPropertyAccessor(current).getProperty(properties[i]);
+
+			if (current == null) {
+				throw new MappingException(String.format("Cannot set property %s on null intermediate %s of path %s on %s!",
+						properties[leaf].getName(), properties[i].getName(), path, bean.getClass().getName()));
+			}
+		}
+
+		owners[leaf].getPropertyAccessor(current).setProperty(properties[leaf], value);
+	}
+}
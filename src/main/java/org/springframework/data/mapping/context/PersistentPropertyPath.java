@@ -126,4 +126,17 @@ public interface PersistentPropertyPath<T extends PersistentProperty<T>> extends
 	 * @since 1.11
 	 */
 	boolean isEmpty();
+
+	/**
+	 * Returns a {@link PersistentPropertyPathAccessor} to read and write the value the current path points to on a root
+	 * bean in a single call.
+	 *
+	 * @return will never be {@literal null}.
+	 * @throws org.springframework.data.mapping.MappingException in case the path navigates through collection-like
+	 *           properties.
+	 * @since 2.1
+	 */
+	default PersistentPropertyPathAccessor getAccessor() {
+		return new DefaultPersistentPropertyPathAccessor(this);
+	}
 }
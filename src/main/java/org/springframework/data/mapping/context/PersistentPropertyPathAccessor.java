@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Accessor to read and write the value a {@link PersistentPropertyPath} points to on a root bean in a single call.
+ * Usually obtained through {@link PersistentPropertyPath#getAccessor()}.
+ *
+ * @author agent
+ * @since 2.1
+ * @see PersistentPropertyPath#getAccessor()
+ */
+public interface PersistentPropertyPathAccessor {
+
+	/**
+	 * Returns the value of the leaf property of the path for the given root bean. Returns {@literal null} in case any of
+	 * the intermediate values is {@literal null}.
+	 *
+	 * @param bean must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Object getProperty(Object bean);
+
+	/**
+	 * Sets the leaf property of the path on the given root bean to the given value.
+	 *
+	 * @param bean must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @throws MappingException in case any of the intermediate values is {@literal null}.
+	 */
+	void setProperty(Object bean, @Nullable Object value);
+}
@@ -87,6 +87,8 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>> implement
 
 	private final Lazy<Alias> typeAlias;
 
+	private volatile @Nullable ConstructorParameterPlan<P> constructorParameterPlan;
+
 	/**
 	 * Creates a new {@link BasicPersistentEntity} from the given {@link TypeInformation}.
 	 *
@@ -216,6 +218,7 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>> implement
 		}
 
 		propertyCache.computeIfAbsent(property.getName(), key -> property);
+		constructorParameterPlan = null;
 
 		P candidate = returnPropertyIfBetterIdPropertyCandidateOrNull(property);
 
@@ -425,6 +428,27 @@ public class BasicPersistentEntity<T, P extends PersistentProperty<P>> implement
 			properties.sort(comparator);
 			persistentPropertiesCache.sort(comparator);
 		}
+
+		this.constructorParameterPlan = new ConstructorParameterPlan<>(this);
+	}
+
+	/**
+	 * Returns the {@link ConstructorParameterPlan} for the entity's persistence constructor. The plan is computed on
+	 * {@link #verify()} and recomputed lazily if properties are added afterwards.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	ConstructorParameterPlan<P> getConstructorParameterPlan() {
+
+		ConstructorParameterPlan<P> plan = this.constructorParameterPlan;
+
+		if (plan == null) {
+			plan = new ConstructorParameterPlan<>(this);
+			this.constructorParameterPlan = plan;
+		}
+
+		return plan;
 	}
 
 	/*
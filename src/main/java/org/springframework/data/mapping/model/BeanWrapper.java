@@ -17,6 +17,7 @@ package org.springframework.data.mapping.model;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.function.Supplier;
 
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentProperty;
@@ -119,6 +120,110 @@ class BeanWrapper<T> implements PersistentPropertyAccessor {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getInt(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public int getInt(PersistentProperty<?> property) {
+		return accessPrimitiveField(property, int.class, field -> field.getInt(bean),
+				() -> PersistentPropertyAccessor.super.getInt(property));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getLong(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public long getLong(PersistentProperty<?> property) {
+		return accessPrimitiveField(property, long.class, field -> field.getLong(bean),
+				() -> PersistentPropertyAccessor.super.getLong(property));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getDouble(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public double getDouble(PersistentProperty<?> property) {
+		return accessPrimitiveField(property, double.class, field -> field.getDouble(bean),
+				() -> PersistentPropertyAccessor.super.getDouble(property));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getBoolean(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public boolean getBoolean(PersistentProperty<?> property) {
+		return accessPrimitiveField(property, boolean.class, field -> field.getBoolean(bean),
+				() -> PersistentPropertyAccessor.super.getBoolean(property));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setInt(org.springframework.data.mapping.PersistentProperty, int)
+	 */
+	@Override
+	public void setInt(PersistentProperty<?> property, int value) {
+
+		accessPrimitiveField(property, int.class, field -> {
+			field.setInt(bean, value);
+			return null;
+		}, () -> {
+			PersistentPropertyAccessor.super.setInt(property, value);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setLong(org.springframework.data.mapping.PersistentProperty, long)
+	 */
+	@Override
+	public void setLong(PersistentProperty<?> property, long value) {
+
+		accessPrimitiveField(property, long.class, field -> {
+			field.setLong(bean, value);
+			return null;
+		}, () -> {
+			PersistentPropertyAccessor.super.setLong(property, value);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setDouble(org.springframework.data.mapping.PersistentProperty, double)
+	 */
+	@Override
+	public void setDouble(PersistentProperty<?> property, double value) {
+
+		accessPrimitiveField(property, double.class, field -> {
+			field.setDouble(bean, value);
+			return null;
+		}, () -> {
+			PersistentPropertyAccessor.super.setDouble(property, value);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setBoolean(org.springframework.data.mapping.PersistentProperty, boolean)
+	 */
+	@Override
+	public void setBoolean(PersistentProperty<?> property, boolean value) {
+
+		accessPrimitiveField(property, boolean.class, field -> {
+			field.setBoolean(bean, value);
+			return null;
+		}, () -> {
+			PersistentPropertyAccessor.super.setBoolean(property, value);
+			return null;
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getBean()
@@ -126,4 +231,71 @@ class BeanWrapper<T> implements PersistentPropertyAccessor {
 	public T getBean() {
 		return bean;
 	}
+
+	/**
+	 * Reads or writes the given primitive {@link PersistentProperty} through the given {@link PrimitiveFieldCallback} if
+	 * it is backed by a field of the given primitive type, or delegates to the given fallback otherwise.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @param fallback must not be {@literal null}.
+	 * @return the value returned by the callback or the fallback.
+	 */
+	@Nullable
+	private <S> S accessPrimitiveField(PersistentProperty<?> property, Class<?> type, PrimitiveFieldCallback<S> callback,
+			Supplier<S> fallback) {
+
+		Field field = getPrimitiveField(property, type);
+
+		if (field == null) {
+			return fallback.get();
+		}
+
+		try {
+			return callback.doWith(field);
+		} catch (IllegalAccessException e) {
+			throw new MappingException(String.format("Could not access property %s of %s!", property, bean), e);
+		}
+	}
+
+	/**
+	 * Returns the accessible {@link Field} backing the given {@link PersistentProperty} if it is accessed through its
+	 * field and the field is of the given primitive type. Such fields can be read and written without boxing.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the field or {@literal null} if the property has to be accessed through the generic methods.
+	 */
+	@Nullable
+	private static Field getPrimitiveField(PersistentProperty<?> property, Class<?> type) {
+
+		Assert.notNull(property, "PersistentProperty must not be null!");
+
+		if (property.usePropertyAccess()) {
+			return null;
+		}
+
+		Field field = property.getField();
+
+		if (field == null || !type.equals(field.getType())) {
+			return null;
+		}
+
+		ReflectionUtils.makeAccessible(field);
+
+		return field;
+	}
+
+	/**
+	 * Callback to read or write a primitive {@link Field}.
+	 *
+	 * @author agent
+	 */
+	@FunctionalInterface
+	private interface PrimitiveFieldCallback<S> {
+
+		@Nullable
+		S doWith(Field field) throws IllegalAccessException;
+	}
 }
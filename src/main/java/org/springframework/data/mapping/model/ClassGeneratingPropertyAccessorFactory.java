@@ -25,8 +25,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.security.ProtectionDomain;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -34,7 +37,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.springframework.asm.ClassWriter;
@@ -49,10 +55,14 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.util.Optionals;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * A factory that can generate byte code to speed-up dynamic property access. Uses the {@link PersistentEntity}'s
@@ -70,10 +80,13 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	// Pooling of parameter arrays to prevent excessive object allocation.
 	private final ThreadLocal<Object[]> argumentCache = ThreadLocal.withInitial(() -> new Object[1]);
 
-	private volatile Map<PersistentEntity<?, ?>, Constructor<?>> constructorMap = new HashMap<>(32);
-	private volatile Map<TypeInformation<?>, Class<PersistentPropertyAccessor>> propertyAccessorClasses = new HashMap<>(
+	private final Map<PersistentEntity<?, ?>, Constructor<?>> constructorMap = new ConcurrentHashMap<>(32);
+	private final Map<TypeInformation<?>, Class<PersistentPropertyAccessor>> propertyAccessorClasses = new ConcurrentHashMap<>(
 			32);
 
+	private final LongAdder generatedClasses = new LongAdder();
+	private final LongAdder generationNanos = new LongAdder();
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.PersistentPropertyAccessorFactory#getPropertyAccessor(org.springframework.data.mapping.PersistentEntity, java.lang.Object)
@@ -89,9 +102,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 					entity);
 			constructor = accessorClass.getConstructors()[0];
 
-			Map<PersistentEntity<?, ?>, Constructor<?>> constructorMap = new HashMap<>(this.constructorMap);
 			constructorMap.put(entity, constructor);
-			this.constructorMap = constructorMap;
 		}
 
 		Object[] args = argumentCache.get();
@@ -119,7 +130,37 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 
 		Assert.notNull(entity, "PersistentEntity must not be null!");
 
-		return isClassLoaderDefineClassAvailable(entity) && isTypeInjectable(entity) && hasUniquePropertyHashCodes(entity);
+		if (!hasUniquePropertyHashCodes(entity)) {
+			return false;
+		}
+
+		return isClassLoaderDefineClassAvailable(entity) && isTypeInjectable(entity)
+				|| PropertyAccessorClassGenerator.loadPregeneratedAccessorClass(entity) != null;
+	}
+
+	/**
+	 * Generates the {@link PersistentPropertyAccessor} class for the given {@link PersistentEntity} ahead of time. Classes
+	 * generated this way and put on the classpath next to the entity type are used instead of generating and defining
+	 * the class at runtime, as long as the persistent properties of the entity did not change in the meantime.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the class name and byte code of the accessor class or {@link Optional#empty()} if the entity is not
+	 *         supported.
+	 * @since 2.1
+	 */
+	public Optional<Pair<String, byte[]>> generateAccessorClass(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		if (!isTypeInjectable(entity) || !hasUniquePropertyHashCodes(entity)) {
+			return Optional.empty();
+		}
+
+		String metadata = PropertyAccessorClassGenerator.getPregeneratedClassMetadata(entity);
+		String className = PropertyAccessorClassGenerator.generatePregeneratedClassName(entity.getType(), metadata);
+
+		return Optional.of(Pair.of(className,
+				PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'), entity, metadata)));
 	}
 
 	private static boolean isClassLoaderDefineClassAvailable(PersistentEntity<?, ?> entity) {
@@ -163,35 +204,75 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	}
 
 	/**
+	 * Returns the number of {@link PersistentPropertyAccessor} classes generated by this factory. Threads racing to
+	 * generate the class for the same type are counted individually.
+	 *
+	 * @return
+	 * @since 2.1
+	 */
+	public long getGeneratedClassCount() {
+		return generatedClasses.sum();
+	}
+
+	/**
+	 * Returns the accumulated time spent generating {@link PersistentPropertyAccessor} classes. As classes for different
+	 * types are generated concurrently, this can exceed the wall-clock time spent.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	public Duration getClassGenerationTime() {
+		return Duration.ofNanos(generationNanos.sum());
+	}
+
+	/**
+	 * Looks up the accessor class for the given {@link PersistentEntity} and generates it if necessary. Generation doesn't
+	 * hold any lock so that classes for different types are generated in parallel. Threads racing to generate the class
+	 * for the same type all use the one registered first.
+	 *
 	 * @param entity must not be {@literal null}.
 	 */
-	private synchronized Class<PersistentPropertyAccessor> potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
+	private Class<PersistentPropertyAccessor> potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
 			PersistentEntity<?, ?> entity) {
 
-		Map<TypeInformation<?>, Class<PersistentPropertyAccessor>> map = this.propertyAccessorClasses;
-		Class<PersistentPropertyAccessor> propertyAccessorClass = map.get(entity.getTypeInformation());
+		TypeInformation<?> type = entity.getTypeInformation();
+		Class<PersistentPropertyAccessor> propertyAccessorClass = propertyAccessorClasses.get(type);
 
 		if (propertyAccessorClass != null) {
 			return propertyAccessorClass;
 		}
 
+		// No computeIfAbsent(…) as that would block lookups of other types hashing to the same bin during generation
 		propertyAccessorClass = createAccessorClass(entity);
+		Class<PersistentPropertyAccessor> existing = propertyAccessorClasses.putIfAbsent(type, propertyAccessorClass);
 
-		map = new HashMap<>(map);
-		map.put(entity.getTypeInformation(), propertyAccessorClass);
-
-		this.propertyAccessorClasses = map;
-
-		return propertyAccessorClass;
+		return existing == null ? propertyAccessorClass : existing;
 	}
 
 	@SuppressWarnings("unchecked")
 	private Class<PersistentPropertyAccessor> createAccessorClass(PersistentEntity<?, ?> entity) {
 
+		Class<?> pregeneratedClass = PropertyAccessorClassGenerator.loadPregeneratedAccessorClass(entity);
+
+		if (pregeneratedClass != null) {
+			return (Class<PersistentPropertyAccessor>) pregeneratedClass;
+		}
+
+		long start = System.nanoTime();
+
 		try {
-			return (Class<PersistentPropertyAccessor>) PropertyAccessorClassGenerator.generateCustomAccessorClass(entity);
+
+			Class<PersistentPropertyAccessor> accessorClass = (Class<PersistentPropertyAccessor>) PropertyAccessorClassGenerator
+					.generateCustomAccessorClass(entity);
+
+			generatedClasses.increment();
+
+			return accessorClass;
+
 		} catch (Exception e) {
 			throw new RuntimeException(e);
+		} finally {
+			generationNanos.add(System.nanoTime() - start);
 		}
 	}
 
@@ -275,6 +356,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static final String INIT = "<init>";
 		private static final String CLINIT = "<clinit>";
 		private static final String TAG = "_Accessor_";
+		private static final String PREGENERATED_TAG = TAG + "aot_";
+		private static final String METADATA_FIELD = "$$metadata";
 		private static final String JAVA_LANG_OBJECT = "java/lang/Object";
 		private static final String JAVA_LANG_STRING = "java/lang/String";
 		private static final String JAVA_LANG_REFLECT_METHOD = "java/lang/reflect/Method";
@@ -292,30 +375,46 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static final String[] IMPLEMENTED_INTERFACES = new String[] {
 				Type.getInternalName(PersistentPropertyAccessor.class) };
 
+		private static final List<Class<?>> PRIMITIVE_ACCESSOR_TYPES = Arrays.asList(Integer.TYPE, Long.TYPE, Double.TYPE,
+				Boolean.TYPE);
+
 		/**
 		 * Generate a new class for the given {@link PersistentEntity}.
 		 */
 		static Class<?> generateCustomAccessorClass(PersistentEntity<?, ?> entity) {
 
 			String className = generateClassName(entity);
-			byte[] bytecode = generateBytecode(className.replace('.', '/'), entity);
+			byte[] bytecode = generateBytecode(className.replace('.', '/'), entity, null);
 			Class<?> type = entity.getType();
 
 			try {
 				return ReflectUtils.defineClass(className, bytecode, type.getClassLoader(), type.getProtectionDomain());
 			} catch (Exception e) {
-				throw new IllegalStateException(e);
+
+				// Concurrently defined for the same type by another thread
+				try {
+					return ClassUtils.forName(className, type.getClassLoader());
+				} catch (ClassNotFoundException | LinkageError o_O) {
+					throw new IllegalStateException(e);
+				}
 			}
 		}
 
 		/**
-		 * Generate a new class for the given {@link PersistentEntity}.
+		 * Generate a new class for the given {@link PersistentEntity}. The given metadata, if any, is exposed through a
+		 * constant so that it can be verified when loading an ahead-of-time generated class.
 		 */
-		static byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity) {
+		static byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity,
+				@Nullable String metadata) {
 
 			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 			cw.visit(Opcodes.V1_6, ACC_PUBLIC + ACC_SUPER, internalClassName, null, JAVA_LANG_OBJECT, IMPLEMENTED_INTERFACES);
 
+			if (metadata != null) {
+				cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, METADATA_FIELD, referenceName(JAVA_LANG_STRING), null,
+						metadata).visitEnd();
+			}
+
 			List<PersistentProperty<?>> persistentProperties = getPersistentProperties(entity);
 
 			visitFields(entity, persistentProperties, cw);
@@ -325,6 +424,11 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			visitSetProperty(entity, persistentProperties, internalClassName, cw);
 			visitGetProperty(entity, persistentProperties, internalClassName, cw);
 
+			for (Class<?> type : PRIMITIVE_ACCESSOR_TYPES) {
+				visitGetPrimitiveProperty(entity, persistentProperties, type, internalClassName, cw);
+				visitSetPrimitiveProperty(entity, persistentProperties, type, internalClassName, cw);
+			}
+
 			cw.visitEnd();
 
 			return cw.toByteArray();
@@ -790,42 +894,14 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static void visitGetPropertySwitch(PersistentEntity<?, ?> entity,
 				List<PersistentProperty<?>> persistentProperties, String internalClassName, MethodVisitor mv) {
 
-			Map<String, PropertyStackAddress> propertyStackMap = createPropertyStackMap(persistentProperties);
-
-			int[] hashes = new int[propertyStackMap.size()];
-			Label[] switchJumpLabels = new Label[propertyStackMap.size()];
-			List<PropertyStackAddress> stackmap = new ArrayList<>(propertyStackMap.values());
-			Collections.sort(stackmap);
-
-			for (int i = 0; i < stackmap.size(); i++) {
-
-				PropertyStackAddress propertyStackAddress = stackmap.get(i);
-				hashes[i] = propertyStackAddress.hash;
-				switchJumpLabels[i] = propertyStackAddress.label;
-			}
-
-			Label dfltLabel = new Label();
-
-			mv.visitVarInsn(ALOAD, 1);
-			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
-					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
-			mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "hashCode", "()I", false);
-			mv.visitLookupSwitchInsn(dfltLabel, hashes, switchJumpLabels);
-
-			for (PersistentProperty<?> property : persistentProperties) {
-
-				mv.visitLabel(propertyStackMap.get(property.getName()).label);
-				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			visitPropertySwitch(persistentProperties, mv, (property, dfltLabel) -> {
 
 				if (property.getGetter() != null || property.getField() != null) {
 					visitGetProperty0(entity, property, mv, internalClassName);
 				} else {
 					mv.visitJumpInsn(GOTO, dfltLabel);
 				}
-			}
-
-			mv.visitLabel(dfltLabel);
-			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			});
 		}
 
 		/**
@@ -956,40 +1032,14 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static void visitSetPropertySwitch(PersistentEntity<?, ?> entity,
 				List<PersistentProperty<?>> persistentProperties, String internalClassName, MethodVisitor mv) {
 
-			Map<String, PropertyStackAddress> propertyStackMap = createPropertyStackMap(persistentProperties);
-
-			int[] hashes = new int[propertyStackMap.size()];
-			Label[] switchJumpLabels = new Label[propertyStackMap.size()];
-			List<PropertyStackAddress> stackmap = new ArrayList<>(propertyStackMap.values());
-			Collections.sort(stackmap);
-
-			for (int i = 0; i < stackmap.size(); i++) {
-				PropertyStackAddress propertyStackAddress = stackmap.get(i);
-				hashes[i] = propertyStackAddress.hash;
-				switchJumpLabels[i] = propertyStackAddress.label;
-			}
-
-			Label dfltLabel = new Label();
-
-			mv.visitVarInsn(ALOAD, 1);
-			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
-					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
-			mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "hashCode", "()I", false);
-			mv.visitLookupSwitchInsn(dfltLabel, hashes, switchJumpLabels);
-
-			for (PersistentProperty<?> property : persistentProperties) {
-				mv.visitLabel(propertyStackMap.get(property.getName()).label);
-				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			visitPropertySwitch(persistentProperties, mv, (property, dfltLabel) -> {
 
 				if (property.getSetter() != null || property.getField() != null) {
 					visitSetProperty0(entity, property, mv, internalClassName);
 				} else {
 					mv.visitJumpInsn(GOTO, dfltLabel);
 				}
-			}
-
-			mv.visitLabel(dfltLabel);
-			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			});
 		}
 
 		/**
@@ -1061,6 +1111,360 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			mv.visitInsn(RETURN);
 		}
 
+		/**
+		 * Generate the primitive getter, e.g. {@link PersistentPropertyAccessor#getInt(PersistentProperty)}, for all
+		 * properties whose accessed member is of the given primitive type. Other properties are read through
+		 * {@code getProperty(…)} and unboxed. If no property is of the given type, no method is generated and the
+		 * interface's default method applies.
+		 *
+		 * <pre>
+		 * {
+		 * 	&#064;code
+		 * 		public int getInt(PersistentProperty<?> property) {
+		 * 			Object bean = this.bean;
+		 * 			switch (property.getName().hashCode()) {
+		 * 				case 3355:
+		 * 					return bean.id;
+		 * 				// ...
+		 *            }
+		 * 			return ((Number) getProperty(property)).intValue();
+		 *        }
+		 * }
+		 * </pre>
+		 */
+		private static void visitGetPrimitiveProperty(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, Class<?> type, String internalClassName, ClassWriter cw) {
+
+			List<PersistentProperty<?>> properties = persistentProperties.stream() //
+					.filter(it -> type.equals(getAccessedType(it))) //
+					.collect(Collectors.toList());
+
+			if (properties.isEmpty()) {
+				return;
+			}
+
+			Type primitiveType = Type.getType(type);
+
+			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, primitiveAccessorName("get", type),
+					String.format("(Lorg/springframework/data/mapping/PersistentProperty;)%s", primitiveType.getDescriptor()),
+					String.format("(Lorg/springframework/data/mapping/PersistentProperty<*>;)%s", primitiveType.getDescriptor()),
+					null);
+			mv.visitCode();
+
+			Label l0 = new Label();
+			Label l1 = new Label();
+			mv.visitLabel(l0);
+
+			visitAssertNotNull(mv);
+
+			mv.visitVarInsn(ALOAD, 0);
+
+			if (isAccessible(entity)) {
+				mv.visitFieldInsn(GETFIELD, internalClassName, BEAN_FIELD, referenceName(entity.getType()));
+			} else {
+				mv.visitFieldInsn(GETFIELD, internalClassName, BEAN_FIELD, referenceName(JAVA_LANG_OBJECT));
+			}
+			mv.visitVarInsn(ASTORE, 2);
+
+			visitPropertySwitch(properties, mv,
+					(property, dfltLabel) -> visitGetPrimitiveProperty0(entity, property, type, mv, internalClassName));
+
+			// return ((Number) getProperty(property)).intValue()
+			String wrapperType = Boolean.TYPE.equals(type) ? "java/lang/Boolean" : "java/lang/Number";
+
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName, "getProperty",
+					String.format("(%s)%s", referenceName(PERSISTENT_PROPERTY), referenceName(JAVA_LANG_OBJECT)), false);
+			mv.visitTypeInsn(CHECKCAST, wrapperType);
+			mv.visitMethodInsn(INVOKEVIRTUAL, wrapperType, type.getName() + "Value",
+					String.format("()%s", primitiveType.getDescriptor()), false);
+			mv.visitInsn(primitiveType.getOpcode(IRETURN));
+
+			mv.visitLabel(l1);
+			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
+			mv.visitLocalVariable("property", referenceName(PERSISTENT_PROPERTY),
+					"Lorg/springframework/data/mapping/PersistentProperty<*>;", l0, l1, 1);
+
+			if (isAccessible(entity)) {
+				mv.visitLocalVariable(BEAN_FIELD, referenceName(entity.getType()), null, l0, l1, 2);
+			} else {
+				mv.visitLocalVariable(BEAN_FIELD, referenceName(JAVA_LANG_OBJECT), null, l0, l1, 2);
+			}
+
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+
+		/**
+		 * Generate primitive property read access without boxing. Method handles are invoked with the primitive return
+		 * type so that no wrapper is created.
+		 */
+		private static void visitGetPrimitiveProperty0(PersistentEntity<?, ?> entity, PersistentProperty<?> property,
+				Class<?> type, MethodVisitor mv, String internalClassName) {
+
+			Method getter = property.getGetter();
+			String handleSignature = String.format("(%s)%s", referenceName(JAVA_LANG_OBJECT), signatureTypeName(type));
+
+			if (property.usePropertyAccess() && getter != null) {
+
+				if (generateMethodHandle(entity, getter)) {
+					// $getter.invoke(bean)
+					mv.visitFieldInsn(GETSTATIC, internalClassName, getterName(property),
+							referenceName(JAVA_LANG_INVOKE_METHOD_HANDLE));
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_INVOKE_METHOD_HANDLE, "invoke", handleSignature, false);
+				} else {
+					// bean.get...
+					mv.visitVarInsn(ALOAD, 2);
+
+					Class<?> declaringClass = getter.getDeclaringClass();
+					boolean interfaceDefinition = declaringClass.isInterface();
+
+					mv.visitMethodInsn(interfaceDefinition ? INVOKEINTERFACE : INVOKEVIRTUAL,
+							Type.getInternalName(declaringClass), getter.getName(),
+							String.format("()%s", signatureTypeName(type)), interfaceDefinition);
+				}
+			} else {
+
+				Field field = property.getRequiredField();
+
+				if (generateMethodHandle(entity, field)) {
+					// $fieldGetter.invoke(bean)
+					mv.visitFieldInsn(GETSTATIC, internalClassName, fieldGetterName(property),
+							referenceName(JAVA_LANG_INVOKE_METHOD_HANDLE));
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_INVOKE_METHOD_HANDLE, "invoke", handleSignature, false);
+				} else {
+					// bean.field
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitFieldInsn(GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+							signatureTypeName(type));
+				}
+			}
+
+			mv.visitInsn(Type.getType(type).getOpcode(IRETURN));
+		}
+
+		/**
+		 * Generate the primitive setter, e.g. {@link PersistentPropertyAccessor#setInt(PersistentProperty, int)}, for all
+		 * properties whose written member is of the given primitive type. Values for other properties are boxed and handed
+		 * to {@code setProperty(…)}. If no property is of the given type, no method is generated and the interface's
+		 * default method applies.
+		 *
+		 * <pre>
+		 * {
+		 * 	&#064;code
+		 * 		public void setInt(PersistentProperty<?> property, int value) {
+		 * 			Object bean = this.bean;
+		 * 			switch (property.getName().hashCode()) {
+		 * 				case 3355:
+		 * 					bean.id = value;
+		 * 					return;
+		 * 				// ...
+		 *            }
+		 * 			setProperty(property, Integer.valueOf(value));
+		 *        }
+		 * }
+		 * </pre>
+		 */
+		private static void visitSetPrimitiveProperty(PersistentEntity<?, ?> entity,
+				List<PersistentProperty<?>> persistentProperties, Class<?> type, String internalClassName, ClassWriter cw) {
+
+			List<PersistentProperty<?>> properties = persistentProperties.stream() //
+					.filter(it -> type.equals(getWrittenType(it))) //
+					.collect(Collectors.toList());
+
+			if (properties.isEmpty()) {
+				return;
+			}
+
+			Type primitiveType = Type.getType(type);
+			int beanIndex = 2 + primitiveType.getSize();
+
+			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, primitiveAccessorName("set", type),
+					String.format("(Lorg/springframework/data/mapping/PersistentProperty;%s)V", primitiveType.getDescriptor()),
+					String.format("(Lorg/springframework/data/mapping/PersistentProperty<*>;%s)V", primitiveType.getDescriptor()),
+					null);
+			mv.visitCode();
+
+			Label l0 = new Label();
+			Label l1 = new Label();
+			mv.visitLabel(l0);
+
+			visitAssertNotNull(mv);
+
+			mv.visitVarInsn(ALOAD, 0);
+
+			if (isAccessible(entity)) {
+				mv.visitFieldInsn(GETFIELD, internalClassName, BEAN_FIELD, referenceName(entity.getType()));
+			} else {
+				mv.visitFieldInsn(GETFIELD, internalClassName, BEAN_FIELD, referenceName(JAVA_LANG_OBJECT));
+			}
+			mv.visitVarInsn(ASTORE, beanIndex);
+
+			visitPropertySwitch(properties, mv, (property, dfltLabel) -> visitSetPrimitiveProperty0(entity, property, type,
+					beanIndex, mv, internalClassName));
+
+			// setProperty(property, Integer.valueOf(value))
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitVarInsn(primitiveType.getOpcode(ILOAD), 2);
+			autoboxIfNeeded(type, autoboxType(type), mv);
+			mv.visitMethodInsn(INVOKEVIRTUAL, internalClassName, "setProperty",
+					String.format("(%s%s)V", referenceName(PERSISTENT_PROPERTY), referenceName(JAVA_LANG_OBJECT)), false);
+			mv.visitInsn(RETURN);
+
+			mv.visitLabel(l1);
+			mv.visitLocalVariable(THIS_REF, referenceName(internalClassName), null, l0, l1, 0);
+			mv.visitLocalVariable("property", referenceName(PERSISTENT_PROPERTY),
+					"Lorg/springframework/data/mapping/PersistentProperty<*>;", l0, l1, 1);
+			mv.visitLocalVariable("value", primitiveType.getDescriptor(), null, l0, l1, 2);
+
+			if (isAccessible(entity)) {
+				mv.visitLocalVariable(BEAN_FIELD, referenceName(entity.getType()), null, l0, l1, beanIndex);
+			} else {
+				mv.visitLocalVariable(BEAN_FIELD, referenceName(JAVA_LANG_OBJECT), null, l0, l1, beanIndex);
+			}
+
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+
+		/**
+		 * Generate primitive property write access without boxing. Method handles are invoked with the primitive parameter
+		 * type so that no wrapper is created.
+		 */
+		private static void visitSetPrimitiveProperty0(PersistentEntity<?, ?> entity, PersistentProperty<?> property,
+				Class<?> type, int beanIndex, MethodVisitor mv, String internalClassName) {
+
+			Method setter = property.getSetter();
+			int loadOpcode = Type.getType(type).getOpcode(ILOAD);
+			String handleSignature = String.format("(%s%s)V", referenceName(JAVA_LANG_OBJECT), signatureTypeName(type));
+
+			if (property.usePropertyAccess() && setter != null) {
+
+				if (generateMethodHandle(entity, setter)) {
+					// $setter.invoke(bean, value)
+					mv.visitFieldInsn(GETSTATIC, internalClassName, setterName(property),
+							referenceName(JAVA_LANG_INVOKE_METHOD_HANDLE));
+					mv.visitVarInsn(ALOAD, beanIndex);
+					mv.visitVarInsn(loadOpcode, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_INVOKE_METHOD_HANDLE, "invoke", handleSignature, false);
+				} else {
+					// bean.set...(value)
+					mv.visitVarInsn(ALOAD, beanIndex);
+					mv.visitVarInsn(loadOpcode, 2);
+
+					Class<?> declaringClass = setter.getDeclaringClass();
+					boolean interfaceDefinition = declaringClass.isInterface();
+
+					mv.visitMethodInsn(interfaceDefinition ? INVOKEINTERFACE : INVOKEVIRTUAL,
+							Type.getInternalName(declaringClass), setter.getName(),
+							String.format("(%s)V", signatureTypeName(type)), interfaceDefinition);
+				}
+			} else {
+
+				Field field = property.getRequiredField();
+
+				if (generateSetterMethodHandle(entity, field)) {
+					// $fieldSetter.invoke(bean, value)
+					mv.visitFieldInsn(GETSTATIC, internalClassName, fieldSetterName(property),
+							referenceName(JAVA_LANG_INVOKE_METHOD_HANDLE));
+					mv.visitVarInsn(ALOAD, beanIndex);
+					mv.visitVarInsn(loadOpcode, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_INVOKE_METHOD_HANDLE, "invoke", handleSignature, false);
+				} else {
+					// bean.field = value
+					mv.visitVarInsn(ALOAD, beanIndex);
+					mv.visitVarInsn(loadOpcode, 2);
+					mv.visitFieldInsn(PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+							signatureTypeName(type));
+				}
+			}
+
+			mv.visitInsn(RETURN);
+		}
+
+		/**
+		 * Generate the {@code switch(hashcode) {label: }} block for the given properties, handing each case and the label
+		 * of the default case to the given {@link BiConsumer}. Execution continues after the block for unknown properties.
+		 */
+		private static void visitPropertySwitch(List<PersistentProperty<?>> properties, MethodVisitor mv,
+				BiConsumer<PersistentProperty<?>, Label> caseVisitor) {
+
+			Map<String, PropertyStackAddress> propertyStackMap = createPropertyStackMap(properties);
+
+			int[] hashes = new int[propertyStackMap.size()];
+			Label[] switchJumpLabels = new Label[propertyStackMap.size()];
+			List<PropertyStackAddress> stackmap = new ArrayList<>(propertyStackMap.values());
+			Collections.sort(stackmap);
+
+			for (int i = 0; i < stackmap.size(); i++) {
+
+				PropertyStackAddress propertyStackAddress = stackmap.get(i);
+				hashes[i] = propertyStackAddress.hash;
+				switchJumpLabels[i] = propertyStackAddress.label;
+			}
+
+			Label dfltLabel = new Label();
+
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, PERSISTENT_PROPERTY, "getName",
+					String.format("()%s", referenceName(JAVA_LANG_STRING)), true);
+			mv.visitMethodInsn(INVOKEVIRTUAL, JAVA_LANG_STRING, "hashCode", "()I", false);
+			mv.visitLookupSwitchInsn(dfltLabel, hashes, switchJumpLabels);
+
+			for (PersistentProperty<?> property : properties) {
+
+				mv.visitLabel(propertyStackMap.get(property.getName()).label);
+				mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+
+				caseVisitor.accept(property, dfltLabel);
+			}
+
+			mv.visitLabel(dfltLabel);
+			mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+		}
+
+		/**
+		 * Returns the type of the member the generated accessor reads the given property from.
+		 */
+		@Nullable
+		private static Class<?> getAccessedType(PersistentProperty<?> property) {
+
+			Method getter = property.getGetter();
+
+			if (property.usePropertyAccess() && getter != null) {
+				return getter.getReturnType();
+			}
+
+			Field field = property.getField();
+
+			return field == null ? null : field.getType();
+		}
+
+		/**
+		 * Returns the type of the member the generated accessor writes the given property to.
+		 */
+		@Nullable
+		private static Class<?> getWrittenType(PersistentProperty<?> property) {
+
+			Method setter = property.getSetter();
+
+			if (property.usePropertyAccess() && setter != null) {
+				return setter.getParameterTypes()[0];
+			}
+
+			Field field = property.getField();
+
+			return field == null ? null : field.getType();
+		}
+
+		private static String primitiveAccessorName(String prefix, Class<?> type) {
+			return prefix + StringUtils.capitalize(type.getName());
+		}
+
 		private static void visitAssertNotNull(MethodVisitor mv) {
 
 			// Assert.notNull(property)
@@ -1168,6 +1572,64 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		private static String generateClassName(PersistentEntity<?, ?> entity) {
 			return entity.getType().getName() + TAG + Integer.toString(entity.hashCode(), 36);
 		}
+
+		/**
+		 * Returns the metadata an ahead-of-time generated accessor class is created for, i.e. the members used to access
+		 * the persistent properties.
+		 */
+		static String getPregeneratedClassMetadata(PersistentEntity<?, ?> entity) {
+
+			return getPersistentProperties(entity).stream() //
+					.map(it -> String.join("|", it.getName(), String.valueOf(it.getField()), String.valueOf(it.getGetter()),
+							String.valueOf(it.getSetter()), String.valueOf(it.usePropertyAccess()))) //
+					.sorted() //
+					.collect(Collectors.joining(";"));
+		}
+
+		/**
+		 * Generates a stable class name for ahead-of-time generated accessor classes. The name is derived from a digest of
+		 * the given metadata so that a class generated for a different set of properties is not picked up.
+		 */
+		static String generatePregeneratedClassName(Class<?> type, String metadata) {
+			return type.getName() + PREGENERATED_TAG
+					+ DigestUtils.md5DigestAsHex(metadata.getBytes(StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Loads the ahead-of-time generated accessor class for the given {@link PersistentEntity} from the entity's
+		 * {@link ClassLoader} if it is listed in the {@link PregeneratedClassIndex}.
+		 *
+		 * @return the accessor class or {@literal null} if none was generated.
+		 */
+		@Nullable
+		static Class<?> loadPregeneratedAccessorClass(PersistentEntity<?, ?> entity) {
+
+			ClassLoader classLoader = entity.getType().getClassLoader();
+			PregeneratedClassIndex index = PregeneratedClassIndex.forClassLoader(classLoader);
+
+			if (classLoader == null || index.isEmpty()) {
+				return null;
+			}
+
+			String metadata = getPregeneratedClassMetadata(entity);
+
+			String className = generatePregeneratedClassName(entity.getType(), metadata);
+
+			if (!index.contains(className)) {
+				return null;
+			}
+
+			try {
+
+				Class<?> type = ClassUtils.forName(className, classLoader);
+
+				// Guard against digest collisions
+				return metadata.equals(type.getField(METADATA_FIELD).get(null)) ? type : null;
+
+			} catch (ReflectiveOperationException | LinkageError o_O) {
+				return null;
+			}
+		}
 	}
 
 	private static String referenceName(Class<?> type) {
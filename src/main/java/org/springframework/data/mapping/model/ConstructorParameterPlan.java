@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Resolved binding of the {@link Parameter}s of a {@link PersistentEntity}'s {@link PreferredConstructor}. Captures
+ * for each parameter position whether it refers to the enclosing instance of a member class and which
+ * {@link PersistentProperty} it is bound to, so that neither needs to be looked up by name for every instance created.
+ *
+ * @author agent
+ * @since 2.1
+ * @see PersistentEntityParameterValueProvider
+ */
+public class ConstructorParameterPlan<P extends PersistentProperty<P>> {
+
+	private static final Map<PersistentEntity<?, ?>, ConstructorParameterPlan<?>> PLANS = //
+			new ConcurrentReferenceHashMap<>();
+
+	private final List<Parameter<Object, P>> parameters;
+	private final Map<Parameter<?, P>, Integer> indexes;
+	private final Object[] properties;
+	private final boolean[] enclosingClassParameters;
+
+	/**
+	 * Creates a new {@link ConstructorParameterPlan} for the given {@link PersistentEntity}. The entity is expected to
+	 * have all its properties registered.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	ConstructorParameterPlan(PersistentEntity<?, P> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		PreferredConstructor<?, P> constructor = entity.getPersistenceConstructor();
+
+		this.parameters = constructor == null ? Collections.emptyList() : constructor.getParameters();
+		this.properties = new Object[parameters.size()];
+		this.enclosingClassParameters = new boolean[parameters.size()];
+		this.indexes = new IdentityHashMap<>(parameters.size());
+
+		for (int i = 0; i < parameters.size(); i++) {
+
+			Parameter<Object, P> parameter = parameters.get(i);
+			String name = parameter.getName();
+
+			this.indexes.put(parameter, i);
+			this.enclosingClassParameters[i] = constructor != null && constructor.isEnclosingClassParameter(parameter);
+			this.properties[i] = name == null ? null : entity.getPersistentProperty(name);
+		}
+	}
+
+	/**
+	 * Returns the {@link ConstructorParameterPlan} for the given {@link PersistentEntity}. Plans for
+	 * {@link BasicPersistentEntity} instances are computed once on entity initialization and held by the entity. Plans
+	 * for other entity implementations are computed on first request and cached, so those are expected to be fully
+	 * initialized.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <P extends PersistentProperty<P>> ConstructorParameterPlan<P> of(PersistentEntity<?, P> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		if (entity instanceof BasicPersistentEntity) {
+			return ((BasicPersistentEntity<?, P>) entity).getConstructorParameterPlan();
+		}
+
+		ConstructorParameterPlan<?> plan = PLANS.get(entity);
+
+		if (plan == null) {
+			plan = PLANS.computeIfAbsent(entity, it -> new ConstructorParameterPlan<>(entity));
+		}
+
+		return (ConstructorParameterPlan<P>) plan;
+	}
+
+	/**
+	 * Returns the number of constructor parameters.
+	 *
+	 * @return
+	 */
+	public int getParameterCount() {
+		return parameters.size();
+	}
+
+	/**
+	 * Returns the {@link Parameter} at the given index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public Parameter<Object, P> getParameter(int index) {
+		return parameters.get(index);
+	}
+
+	/**
+	 * Returns the index of the given {@link Parameter} or {@literal -1} if it is not a parameter of the constructor the
+	 * plan was created for.
+	 *
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	public int indexOf(Parameter<?, P> parameter) {
+
+		Integer index = indexes.get(parameter);
+
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Returns the value for the parameter at the given index from the given {@link ParameterValueProvider}. Uses the
+	 * property bindings of the plan if the provider is a {@link PlanAwareParameterValueProvider}.
+	 *
+	 * @param index
+	 * @param provider must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public Object getParameterValue(int index, ParameterValueProvider<P> provider) {
+
+		return provider instanceof PlanAwareParameterValueProvider //
+				? ((PlanAwareParameterValueProvider<P>) provider).getParameterValue(this, index) //
+				: provider.getParameterValue(parameters.get(index));
+	}
+
+	/**
+	 * Returns whether the parameter at the given index refers to the enclosing instance of a member class.
+	 *
+	 * @param index
+	 * @return
+	 * @see PreferredConstructor#isEnclosingClassParameter(Parameter)
+	 */
+	public boolean isEnclosingClassParameter(int index) {
+		return enclosingClassParameters[index];
+	}
+
+	/**
+	 * Returns the {@link PersistentProperty} the parameter at the given index is bound to.
+	 *
+	 * @param index
+	 * @return the property or {@literal null} if the parameter does not have a name or the entity does not have a
+	 *         property of that name.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public P getProperty(int index) {
+		return (P) properties[index];
+	}
+}
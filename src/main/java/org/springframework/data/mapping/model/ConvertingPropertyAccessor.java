@@ -15,11 +15,16 @@
  */
 package org.springframework.data.mapping.model;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link PersistentPropertyAccessor} that potentially converts the value handed to
@@ -32,6 +37,8 @@ import org.springframework.util.Assert;
  */
 public class ConvertingPropertyAccessor implements PersistentPropertyAccessor {
 
+	private static final Map<Class<?>, Map<Class<?>, PropertyConversion>> CONVERSIONS = new ConcurrentReferenceHashMap<>();
+
 	private final PersistentPropertyAccessor accessor;
 	private final ConversionService conversionService;
 
@@ -57,7 +64,7 @@ public class ConvertingPropertyAccessor implements PersistentPropertyAccessor {
 	 */
 	@Override
 	public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
-		accessor.setProperty(property, convertIfNecessary(value, property.getType()));
+		accessor.setProperty(property, convertForProperty(value, property));
 	}
 
 	/*
@@ -86,6 +93,98 @@ public class ConvertingPropertyAccessor implements PersistentPropertyAccessor {
 		return convertIfNecessary(getProperty(property), targetType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getInt(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public int getInt(PersistentProperty<?> property) {
+		return Integer.TYPE.equals(property.getType()) ? accessor.getInt(property) : getRequiredProperty(property, Integer.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getLong(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public long getLong(PersistentProperty<?> property) {
+		return Long.TYPE.equals(property.getType()) ? accessor.getLong(property) : getRequiredProperty(property, Long.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getDouble(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public double getDouble(PersistentProperty<?> property) {
+		return Double.TYPE.equals(property.getType()) ? accessor.getDouble(property) : getRequiredProperty(property, Double.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getBoolean(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public boolean getBoolean(PersistentProperty<?> property) {
+		return Boolean.TYPE.equals(property.getType()) ? accessor.getBoolean(property) : getRequiredProperty(property, Boolean.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setInt(org.springframework.data.mapping.PersistentProperty, int)
+	 */
+	@Override
+	public void setInt(PersistentProperty<?> property, int value) {
+
+		if (Integer.TYPE.equals(property.getType())) {
+			accessor.setInt(property, value);
+		} else {
+			setProperty(property, value);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setLong(org.springframework.data.mapping.PersistentProperty, long)
+	 */
+	@Override
+	public void setLong(PersistentProperty<?> property, long value) {
+
+		if (Long.TYPE.equals(property.getType())) {
+			accessor.setLong(property, value);
+		} else {
+			setProperty(property, value);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setDouble(org.springframework.data.mapping.PersistentProperty, double)
+	 */
+	@Override
+	public void setDouble(PersistentProperty<?> property, double value) {
+
+		if (Double.TYPE.equals(property.getType())) {
+			accessor.setDouble(property, value);
+		} else {
+			setProperty(property, value);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#setBoolean(org.springframework.data.mapping.PersistentProperty, boolean)
+	 */
+	@Override
+	public void setBoolean(PersistentProperty<?> property, boolean value) {
+
+		if (Boolean.TYPE.equals(property.getType())) {
+			accessor.setBoolean(property, value);
+		} else {
+			setProperty(property, value);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.PersistentPropertyAccessor#getBean()
@@ -95,6 +194,27 @@ public class ConvertingPropertyAccessor implements PersistentPropertyAccessor {
 		return accessor.getBean();
 	}
 
+	/**
+	 * Returns the value of the given {@link PersistentProperty} converted to the given type, rejecting {@literal null}
+	 * values.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case the property value is {@literal null}.
+	 */
+	private <T> T getRequiredProperty(PersistentProperty<?> property, Class<T> targetType) {
+
+		T value = getProperty(property, targetType);
+
+		if (value == null) {
+			throw new IllegalStateException(
+					String.format("Property %s is null and cannot be read as %s!", property.getName(), targetType.getName()));
+		}
+
+		return value;
+	}
+
 	/**
 	 * Triggers the conversion of the source value into the target type unless the value already is a value of given
 	 * target type.
@@ -109,4 +229,65 @@ public class ConvertingPropertyAccessor implements PersistentPropertyAccessor {
 		return (T) (source == null ? null
 				: type.isAssignableFrom(source.getClass()) ? source : conversionService.convert(source, type));
 	}
+
+	/**
+	 * Converts the given source value into the type of the given {@link PersistentProperty} if necessary. Reuses the
+	 * {@link PropertyConversion} resolved for the type of the value and the property type.
+	 *
+	 * @param source can be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private Object convertForProperty(@Nullable Object source, PersistentProperty<?> property) {
+
+		if (source == null) {
+			return null;
+		}
+
+		Class<?> sourceType = source.getClass();
+		Class<?> targetType = property.getType();
+
+		if (targetType.isAssignableFrom(sourceType)) {
+			return source;
+		}
+
+		Map<Class<?>, PropertyConversion> conversions = CONVERSIONS.get(targetType);
+
+		if (conversions == null) {
+			conversions = CONVERSIONS.computeIfAbsent(targetType, it -> new ConcurrentHashMap<>(4));
+		}
+
+		PropertyConversion conversion = conversions.get(sourceType);
+
+		if (conversion == null) {
+			conversion = conversions.computeIfAbsent(sourceType, it -> new PropertyConversion(it, targetType));
+		}
+
+		return conversion.convert(source, conversionService);
+	}
+
+	/**
+	 * The conversion of values of a particular type into the type of a {@link PersistentProperty}. Captures the
+	 * {@link TypeDescriptor}s to hand to the {@link ConversionService} so that they don't have to be created for every
+	 * value.
+	 *
+	 * @since 2.1
+	 */
+	private static class PropertyConversion {
+
+		private final TypeDescriptor sourceDescriptor;
+		private final TypeDescriptor targetDescriptor;
+
+		PropertyConversion(Class<?> sourceType, Class<?> targetType) {
+
+			this.sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+			this.targetDescriptor = TypeDescriptor.valueOf(targetType);
+		}
+
+		@Nullable
+		Object convert(Object source, ConversionService conversionService) {
+			return conversionService.convert(source, sourceDescriptor, targetDescriptor);
+		}
+	}
 }
@@ -45,7 +45,7 @@ public class DefaultSpELExpressionEvaluator implements SpELExpressionEvaluator {
 	@SuppressWarnings("unchecked")
 	public <T> T evaluate(String expression) {
 
-		Expression parseExpression = factory.getParser().parseExpression(expression);
-		return (T) parseExpression.getValue(factory.getEvaluationContext(source));
+		Expression parsedExpression = factory.getExpression(expression);
+		return (T) parsedExpression.getValue(factory.getEvaluationContext(source));
 	}
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of mapping metadata precomputed at build time by {@link MappingMetadataIndexWriter}. Allows to skip the
+ * reflective discovery of {@link PropertyDescriptor}s and constructor parameter names for indexed types. The index is
+ * assembled from all {@value #INDEX_LOCATION} resources visible to a {@link ClassLoader}. Types and constructors not
+ * contained in the index fall back to reflective introspection at runtime. So do types that changed since the index was
+ * built, which is detected by a signature of the class files of the type and its supertypes stored alongside the
+ * entries. The signature is computed once per indexed type.
+ * <p>
+ * Set the {@value #IGNORE_INDEX} system or Spring property to {@literal true} to ignore the index entirely.
+ *
+ * @author agent
+ * @since 2.1
+ * @see MappingMetadataIndexWriter
+ */
+public class MappingMetadataIndex {
+
+	/**
+	 * The location of the index resources.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-mapping.index";
+
+	/**
+	 * The name of the property to disable the usage of the index.
+	 */
+	public static final String IGNORE_INDEX = "spring.data.mapping.index.ignore";
+
+	static final String DESCRIPTORS_SUFFIX = ".descriptors";
+	static final String SIGNATURE_SUFFIX = ".signature";
+	static final String CONSTRUCTOR_INFIX = "#<init>";
+	static final String DESCRIPTOR_DELIMITER = ";";
+	static final String DESCRIPTOR_PART_DELIMITER = ":";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MappingMetadataIndex.class);
+	private static final MappingMetadataIndex EMPTY = new MappingMetadataIndex(new Properties());
+	private static final Map<ClassLoader, MappingMetadataIndex> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final Properties entries;
+	private final Map<Class<?>, String> signatures = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link MappingMetadataIndex} for the given index entries.
+	 *
+	 * @param entries must not be {@literal null}.
+	 */
+	MappingMetadataIndex(Properties entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the {@link MappingMetadataIndex} for the given {@link ClassLoader}. Returns an empty index in case no index
+	 * resources are present or the index is disabled via {@value #IGNORE_INDEX}.
+	 *
+	 * @param classLoader can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static MappingMetadataIndex forClassLoader(@Nullable ClassLoader classLoader) {
+
+		if (classLoader == null || SpringProperties.getFlag(IGNORE_INDEX)) {
+			return EMPTY;
+		}
+
+		return CACHE.computeIfAbsent(classLoader, MappingMetadataIndex::load);
+	}
+
+	/**
+	 * Returns whether the index doesn't contain any entries.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * Returns the indexed parameter names for the given {@link Constructor}.
+	 *
+	 * @param constructor must not be {@literal null}.
+	 * @return the parameter names or {@literal null} if the constructor is not indexed or the index entry is stale, i.e.
+	 *         the declaring type changed since the index was built.
+	 */
+	@Nullable
+	public String[] getParameterNames(Constructor<?> constructor) {
+
+		Assert.notNull(constructor, "Constructor must not be null!");
+
+		if (entries.isEmpty()) {
+			return null;
+		}
+
+		String names = entries.getProperty(getConstructorKey(constructor));
+
+		if (names == null) {
+			return null;
+		}
+
+		String[] result = StringUtils.commaDelimitedListToStringArray(names);
+
+		if (result.length != constructor.getParameterCount() || !isCurrent(constructor.getDeclaringClass())) {
+			return null;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@link PropertyDescriptor}s for the given type as discovered at build time.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link PropertyDescriptor}s or {@literal null} if the type is not indexed or the index entry is stale,
+	 *         i.e. the type or one of its supertypes changed since the index was built.
+	 */
+	@Nullable
+	public PropertyDescriptor[] getPropertyDescriptors(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (entries.isEmpty()) {
+			return null;
+		}
+
+		String value = entries.getProperty(getDescriptorsKey(type));
+
+		if (value == null) {
+			return null;
+		}
+
+		if (!isCurrent(type)) {
+			return null;
+		}
+
+		String[] definitions = StringUtils.delimitedListToStringArray(value, DESCRIPTOR_DELIMITER);
+		PropertyDescriptor[] descriptors = new PropertyDescriptor[definitions.length];
+
+		try {
+
+			for (int i = 0; i < definitions.length; i++) {
+				descriptors[i] = toPropertyDescriptor(type, definitions[i]);
+			}
+
+			return descriptors;
+
+		} catch (IntrospectionException | ReflectiveOperationException | LinkageError o_O) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("Ignoring stale mapping metadata index entry for %s!", type.getName()), o_O);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the index key for the {@link PropertyDescriptor}s of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	static String getDescriptorsKey(Class<?> type) {
+		return type.getName().concat(DESCRIPTORS_SUFFIX);
+	}
+
+	/**
+	 * Returns the index key for the signature of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	static String getSignatureKey(Class<?> type) {
+		return type.getName().concat(SIGNATURE_SUFFIX);
+	}
+
+	/**
+	 * Returns a digest of the class files of the given type, its superclasses and the interfaces it implements. Types
+	 * loaded by the bootstrap {@link ClassLoader} are not considered. Any change to the members of a type or the names
+	 * of its constructor parameters changes the signature.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the signature or {@literal null} if a class file cannot be read.
+	 */
+	@Nullable
+	static String getSignature(Class<?> type) {
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+			types.add(candidate);
+		}
+
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(type));
+
+		StringBuilder digests = new StringBuilder();
+
+		for (Class<?> candidate : types) {
+
+			ClassLoader classLoader = candidate.getClassLoader();
+
+			if (classLoader == null) {
+				continue;
+			}
+
+			String resource = ClassUtils.convertClassNameToResourcePath(candidate.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+
+			try (InputStream stream = classLoader.getResourceAsStream(resource)) {
+
+				if (stream == null) {
+					return null;
+				}
+
+				digests.append(DigestUtils.md5DigestAsHex(stream)).append(DESCRIPTOR_DELIMITER);
+
+			} catch (IOException o_O) {
+				return null;
+			}
+		}
+
+		return DigestUtils.md5DigestAsHex(digests.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns whether the index entries for the given type were created for the type as currently loaded. The
+	 * signature of the type is computed once per type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isCurrent(Class<?> type) {
+
+		String signature = signatures.computeIfAbsent(type, it -> {
+
+			String result = getSignature(it);
+			return result == null ? "" : result;
+		});
+
+		if (!signature.isEmpty() && signature.equals(entries.getProperty(getSignatureKey(type)))) {
+			return true;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Ignoring stale mapping metadata index entries for %s!", type.getName()));
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the index key for the parameter names of the given {@link Constructor}.
+	 *
+	 * @param constructor must not be {@literal null}.
+	 * @return
+	 */
+	static String getConstructorKey(Constructor<?> constructor) {
+
+		return Arrays.stream(constructor.getParameterTypes()) //
+				.map(Class::getTypeName) //
+				.collect(Collectors.joining(",", constructor.getDeclaringClass().getName() + CONSTRUCTOR_INFIX + "(", ")"));
+	}
+
+	private static PropertyDescriptor toPropertyDescriptor(Class<?> type, String definition)
+			throws IntrospectionException, ReflectiveOperationException {
+
+		// name:readMethod:writeMethod:writeMethodParameterType
+		String[] parts = StringUtils.delimitedListToStringArray(definition, DESCRIPTOR_PART_DELIMITER);
+
+		if (parts.length != 4) {
+			throw new IntrospectionException(String.format("Invalid property descriptor definition %s!", definition));
+		}
+
+		Method readMethod = StringUtils.hasText(parts[1]) ? type.getMethod(parts[1]) : null;
+		Method writeMethod = StringUtils.hasText(parts[2])
+				? type.getMethod(parts[2], ClassUtils.forName(parts[3], type.getClassLoader()))
+				: null;
+
+		return new PropertyDescriptor(parts[0], readMethod, writeMethod);
+	}
+
+	private static MappingMetadataIndex load(ClassLoader classLoader) {
+
+		try {
+
+			Properties properties = PropertiesLoaderUtils.loadAllProperties(INDEX_LOCATION, classLoader);
+
+			if (properties.isEmpty()) {
+				return EMPTY;
+			}
+
+			LOGGER.debug("Using mapping metadata index with {} entries.", properties.size());
+
+			return new MappingMetadataIndex(properties);
+
+		} catch (IOException o_O) {
+
+			LOGGER.warn(String.format("Could not load mapping metadata index from %s!", INDEX_LOCATION), o_O);
+
+			return EMPTY;
+		}
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.data.util.AnnotatedTypeScanner;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Build-time tool to create the {@link MappingMetadataIndex} for a set of types. The writer uses the very same
+ * introspection means as the runtime, so that the index reflects exactly what would have been discovered
+ * reflectively. Typically invoked after compilation, e.g. by using the {@code exec-maven-plugin} in the
+ * {@code process-classes} phase:
+ *
+ * <pre class="code">
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *   &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;phase&gt;process-classes&lt;/phase&gt;
+ *       &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *       &lt;configuration&gt;
+ *         &lt;mainClass&gt;org.springframework.data.mapping.model.MappingMetadataIndexWriter&lt;/mainClass&gt;
+ *         &lt;classpathScope&gt;compile&lt;/classpathScope&gt;
+ *         &lt;arguments&gt;
+ *           &lt;argument&gt;--output=${project.build.outputDirectory}&lt;/argument&gt;
+ *           &lt;argument&gt;--packages=com.acme.domain&lt;/argument&gt;
+ *         &lt;/arguments&gt;
+ *       &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * Supported arguments are {@code --output} (the root directory to write {@value MappingMetadataIndex#INDEX_LOCATION}
+ * to), {@code --packages} (comma separated base packages to scan) and {@code --annotations} (comma separated fully
+ * qualified annotation types identifying the types to index, defaults to {@link Persistent} and all annotations
+ * meta-annotated with it).
+ *
+ * @author agent
+ * @since 2.1
+ * @see MappingMetadataIndex
+ */
+public class MappingMetadataIndexWriter {
+
+	private static final String OUTPUT = "--output=";
+	private static final String PACKAGES = "--packages=";
+	private static final String ANNOTATIONS = "--annotations=";
+
+	private final ParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
+
+	/**
+	 * Scans the configured packages and writes the {@link MappingMetadataIndex} for all types found.
+	 *
+	 * @param args
+	 * @throws Exception
+	 */
+	@SuppressWarnings("unchecked")
+	public static void main(String[] args) throws Exception {
+
+		String output = null;
+		String[] packages = new String[0];
+		List<Class<? extends Annotation>> annotations = new ArrayList<>();
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+		for (String arg : args) {
+
+			if (arg.startsWith(OUTPUT)) {
+				output = arg.substring(OUTPUT.length());
+			} else if (arg.startsWith(PACKAGES)) {
+				packages = StringUtils.commaDelimitedListToStringArray(arg.substring(PACKAGES.length()));
+			} else if (arg.startsWith(ANNOTATIONS)) {
+				for (String name : StringUtils.commaDelimitedListToStringArray(arg.substring(ANNOTATIONS.length()))) {
+					annotations.add((Class<? extends Annotation>) ClassUtils.forName(name.trim(), classLoader));
+				}
+			} else {
+				throw new IllegalArgumentException(String.format("Unknown argument %s!", arg));
+			}
+		}
+
+		Assert.hasText(output, "No output directory given! Use " + OUTPUT + "<directory>.");
+		Assert.notEmpty(packages, "No packages to scan given! Use " + PACKAGES + "<package>[,<package>].");
+
+		if (annotations.isEmpty()) {
+			annotations.add(Persistent.class);
+		}
+
+		AnnotatedTypeScanner scanner = new AnnotatedTypeScanner(annotations.toArray(new Class[annotations.size()]));
+
+		new MappingMetadataIndexWriter().write(scanner.findTypes(packages), new File(output));
+	}
+
+	/**
+	 * Writes the index for the given types into {@value MappingMetadataIndex#INDEX_LOCATION} below the given root
+	 * directory.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @param rootDirectory must not be {@literal null}.
+	 * @return the index file written.
+	 * @throws IOException
+	 */
+	public File write(Collection<Class<?>> types, File rootDirectory) throws IOException {
+
+		Assert.notNull(types, "Types must not be null!");
+		Assert.notNull(rootDirectory, "Root directory must not be null!");
+
+		File file = new File(rootDirectory, MappingMetadataIndex.INDEX_LOCATION);
+		Files.createDirectories(file.getParentFile().toPath());
+
+		try (Writer writer = new BufferedWriter(
+				new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.ISO_8859_1))) {
+
+			writer.write("# Generated by " + getClass().getName() + ", do not edit.\n");
+
+			for (Entry<String, String> entry : createEntries(types).entrySet()) {
+				writer.write(escape(entry.getKey(), true) + "=" + escape(entry.getValue(), false) + "\n");
+			}
+		}
+
+		return file;
+	}
+
+	/**
+	 * Creates the index entries for the given types, sorted by key.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return
+	 */
+	Map<String, String> createEntries(Collection<Class<?>> types) {
+
+		Map<String, String> entries = new TreeMap<>();
+
+		for (Class<?> type : types) {
+
+			String signature = MappingMetadataIndex.getSignature(type);
+
+			// Entries that cannot be verified at runtime would be ignored anyway
+			if (signature == null) {
+				continue;
+			}
+
+			entries.put(MappingMetadataIndex.getSignatureKey(type), signature);
+
+			String descriptors = getDescriptors(type);
+
+			if (descriptors != null) {
+				entries.put(MappingMetadataIndex.getDescriptorsKey(type), descriptors);
+			}
+
+			for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+
+				if (constructor.getParameterCount() == 0 || constructor.isSynthetic()) {
+					continue;
+				}
+
+				String[] names = discoverer.getParameterNames(constructor);
+
+				if (names != null) {
+					entries.put(MappingMetadataIndex.getConstructorKey(constructor),
+							StringUtils.arrayToCommaDelimitedString(names));
+				}
+			}
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Returns the serialized {@link PropertyDescriptor}s of the given type or {@literal null} if they cannot be
+	 * represented in the index.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private static String getDescriptors(Class<?> type) {
+
+		PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(type);
+
+		// Indexed properties, names clashing with the delimiters and properties whose type needs to be resolved against
+		// the type's generics are left to runtime introspection
+		boolean unsupported = Arrays.stream(descriptors)
+				.anyMatch(it -> it instanceof IndexedPropertyDescriptor
+						|| it.getName().contains(MappingMetadataIndex.DESCRIPTOR_DELIMITER)
+						|| it.getName().contains(MappingMetadataIndex.DESCRIPTOR_PART_DELIMITER)
+						|| isGeneric(it.getReadMethod()) || isGeneric(it.getWriteMethod()));
+
+		if (unsupported) {
+			return null;
+		}
+
+		return Arrays.stream(descriptors) //
+				.map(MappingMetadataIndexWriter::toDefinition) //
+				.collect(Collectors.joining(MappingMetadataIndex.DESCRIPTOR_DELIMITER));
+	}
+
+	/**
+	 * Returns whether the given accessor {@link Method} is a bridge method or uses a type variable in its signature. The
+	 * property types of such methods are resolved against the introspected type by {@link BeanUtils}, which plain
+	 * {@link PropertyDescriptor}s created from the index would not do.
+	 *
+	 * @param method can be {@literal null}.
+	 * @return
+	 */
+	private static boolean isGeneric(@Nullable Method method) {
+
+		if (method == null) {
+			return false;
+		}
+
+		if (method.isBridge() || isGeneric(method.getGenericReturnType())) {
+			return true;
+		}
+
+		return Arrays.stream(method.getGenericParameterTypes()).anyMatch(MappingMetadataIndexWriter::isGeneric);
+	}
+
+	private static boolean isGeneric(Type type) {
+		return type instanceof TypeVariable || type instanceof GenericArrayType;
+	}
+
+	private static String toDefinition(PropertyDescriptor descriptor) {
+
+		Method readMethod = descriptor.getReadMethod();
+		Method writeMethod = descriptor.getWriteMethod();
+
+		return StringUtils.arrayToDelimitedString(new String[] { //
+				descriptor.getName(), //
+				readMethod == null ? "" : readMethod.getName(), //
+				writeMethod == null ? "" : writeMethod.getName(), //
+				writeMethod == null ? "" : writeMethod.getParameterTypes()[0].getTypeName() //
+		}, MappingMetadataIndex.DESCRIPTOR_PART_DELIMITER);
+	}
+
+	private static String escape(String value, boolean key) {
+
+		StringBuilder builder = new StringBuilder(value.length());
+
+		for (char c : value.toCharArray()) {
+
+			if (c == '\\' || c == '=' || c == ':' && key || c == '#' || c == '!' || c == ' ' && key) {
+				builder.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7e) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}
+
+		return builder.toString();
+	}
+}
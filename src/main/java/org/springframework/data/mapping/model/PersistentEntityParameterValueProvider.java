@@ -30,12 +30,15 @@ import org.springframework.lang.Nullable;
  * the value of the property referenced by the given {@link Parameter}. Additionally a
  * {@link DefaultSpELExpressionEvaluator} can be configured to get property value resolution trumped by a SpEL
  * expression evaluation.
+ * <p>
+ * Parameters are bound using the entity's {@link ConstructorParameterPlan}. Instances do not hold any state besides the
+ * values given on construction.
  *
  * @author Oliver Gierke
  */
 @RequiredArgsConstructor
 public class PersistentEntityParameterValueProvider<P extends PersistentProperty<P>>
-		implements ParameterValueProvider<P> {
+		implements PlanAwareParameterValueProvider<P> {
 
 	private final @NonNull PersistentEntity<?, P> entity;
 	private final @NonNull PropertyValueProvider<P> provider;
@@ -49,6 +52,44 @@ public class PersistentEntityParameterValueProvider<P extends PersistentProperty
 	@SuppressWarnings("unchecked")
 	public <T> T getParameterValue(Parameter<T, P> parameter) {
 
+		ConstructorParameterPlan<P> plan = ConstructorParameterPlan.of(entity);
+		int index = plan.indexOf(parameter);
+
+		return index < 0 ? getUnplannedParameterValue(parameter) : (T) getParameterValue(plan, index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.model.PlanAwareParameterValueProvider#getParameterValue(org.springframework.data.mapping.model.ConstructorParameterPlan, int)
+	 */
+	@Nullable
+	@Override
+	public Object getParameterValue(ConstructorParameterPlan<P> plan, int index) {
+
+		if (plan.isEnclosingClassParameter(index)) {
+			return parent;
+		}
+
+		P property = plan.getProperty(index);
+
+		if (property == null) {
+			throw noPropertyFound(plan.getParameter(index));
+		}
+
+		return provider.getPropertyValue(property);
+	}
+
+	/**
+	 * Resolves the value for a {@link Parameter} that is not part of a {@link ConstructorParameterPlan} by looking up the
+	 * property by name.
+	 *
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T getUnplannedParameterValue(Parameter<T, P> parameter) {
+
 		PreferredConstructor<?, P> constructor = entity.getPersistenceConstructor();
 
 		if (constructor != null && constructor.isEnclosingClassParameter(parameter)) {
@@ -56,18 +97,22 @@ public class PersistentEntityParameterValueProvider<P extends PersistentProperty
 		}
 
 		String name = parameter.getName();
-
-		if (name == null) {
-			throw new MappingException(String.format("Parameter %s does not have a name!", parameter));
-		}
-
-		P property = entity.getPersistentProperty(name);
+		P property = name == null ? null : entity.getPersistentProperty(name);
 
 		if (property == null) {
-			throw new MappingException(
-					String.format("No property %s found on entity %s to bind constructor parameter to!", name, entity.getType()));
+			throw noPropertyFound(parameter);
 		}
 
 		return provider.getPropertyValue(property);
 	}
+
+	private MappingException noPropertyFound(Parameter<?, P> parameter) {
+
+		String name = parameter.getName();
+
+		return name == null //
+				? new MappingException(String.format("Parameter %s does not have a name!", parameter)) //
+				: new MappingException(String.format("No property %s found on entity %s to bind constructor parameter to!",
+						name, entity.getType()));
+	}
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ParameterValueProvider} that can look up parameter values by their position in a
+ * {@link ConstructorParameterPlan} and thus use the property bindings resolved by the plan.
+ *
+ * @author agent
+ * @since 2.1
+ * @see ConstructorParameterPlan#getParameterValue(int, ParameterValueProvider)
+ */
+public interface PlanAwareParameterValueProvider<P extends PersistentProperty<P>> extends ParameterValueProvider<P> {
+
+	/**
+	 * Returns the value to be used for the parameter at the given index of the given {@link ConstructorParameterPlan}.
+	 *
+	 * @param plan must not be {@literal null}.
+	 * @param index the index of the parameter within the plan.
+	 * @return
+	 */
+	@Nullable
+	Object getParameterValue(ConstructorParameterPlan<P> plan, int index);
+}
@@ -211,7 +211,7 @@ public interface PreferredConstructorDiscoverer<T, P extends PersistentProperty<
 				return new PreferredConstructor<>((Constructor<T>) constructor);
 			}
 
-			String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(constructor);
+			String[] parameterNames = getParameterNames(constructor);
 
 			Parameter<Object, P>[] parameters = new Parameter[parameterTypes.size()];
 			Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
@@ -227,5 +227,21 @@ public interface PreferredConstructorDiscoverer<T, P extends PersistentProperty<
 
 			return new PreferredConstructor<>((Constructor<T>) constructor, parameters);
 		}
+
+		/**
+		 * Looks up the parameter names of the given {@link Constructor} in the {@link MappingMetadataIndex} before falling
+		 * back to the {@link ParameterNameDiscoverer}.
+		 *
+		 * @param constructor must not be {@literal null}.
+		 * @return
+		 */
+		@Nullable
+		private static String[] getParameterNames(Constructor<?> constructor) {
+
+			String[] parameterNames = MappingMetadataIndex.forClassLoader(constructor.getDeclaringClass().getClassLoader())
+					.getParameterNames(constructor);
+
+			return parameterNames != null ? parameterNames : PARAMETER_NAME_DISCOVERER.getParameterNames(constructor);
+		}
 	}
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Index of the property accessor and instantiator classes generated ahead of time. The index is assembled from all
+ * {@value #INDEX_LOCATION} resources visible to a {@link ClassLoader}, which map the names of the generated classes to
+ * the entity types they were generated for. Pregenerated classes are only looked up if they are listed in the index,
+ * so that applications not using them don't pay for a failing class lookup per entity.
+ *
+ * @author agent
+ * @since 2.1
+ * @see org.springframework.data.convert.PregeneratedClassWriter
+ */
+public class PregeneratedClassIndex {
+
+	/**
+	 * The location of the index resources.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-pregenerated-classes.properties";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PregeneratedClassIndex.class);
+	private static final PregeneratedClassIndex EMPTY = new PregeneratedClassIndex(new Properties());
+	private static final Map<ClassLoader, PregeneratedClassIndex> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final Properties entries;
+
+	/**
+	 * Creates a new {@link PregeneratedClassIndex} for the given index entries.
+	 *
+	 * @param entries must not be {@literal null}.
+	 */
+	PregeneratedClassIndex(Properties entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the {@link PregeneratedClassIndex} for the given {@link ClassLoader}. Returns an empty index in case no
+	 * index resources are present.
+	 *
+	 * @param classLoader can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static PregeneratedClassIndex forClassLoader(@Nullable ClassLoader classLoader) {
+
+		if (classLoader == null) {
+			return EMPTY;
+		}
+
+		return CACHE.computeIfAbsent(classLoader, PregeneratedClassIndex::load);
+	}
+
+	/**
+	 * Returns whether the index doesn't contain any entries.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * Returns whether the class with the given name was generated ahead of time.
+	 *
+	 * @param className must not be {@literal null}.
+	 * @return
+	 */
+	public boolean contains(String className) {
+
+		Assert.notNull(className, "Class name must not be null!");
+
+		return entries.containsKey(className);
+	}
+
+	private static PregeneratedClassIndex load(ClassLoader classLoader) {
+
+		try {
+
+			Properties properties = PropertiesLoaderUtils.loadAllProperties(INDEX_LOCATION, classLoader);
+
+			if (properties.isEmpty()) {
+				return EMPTY;
+			}
+
+			LOGGER.debug("Using {} pregenerated classes.", properties.size());
+
+			return new PregeneratedClassIndex(properties);
+
+		} catch (IOException o_O) {
+
+			LOGGER.warn(String.format("Could not load pregenerated class index from %s!", INDEX_LOCATION), o_O);
+
+			return EMPTY;
+		}
+	}
+}
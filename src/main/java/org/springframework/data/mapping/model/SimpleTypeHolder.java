@@ -15,15 +15,11 @@
  */
 package org.springframework.data.mapping.model;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import org.springframework.util.Assert;
 
@@ -74,7 +70,14 @@ public class SimpleTypeHolder {
 	};
 	public static final SimpleTypeHolder DEFAULT = new SimpleTypeHolder();
 
-	private volatile Map<Class<?>, Boolean> simpleTypes;
+	private final Set<Class<?>> registeredTypes;
+	private final ClassValue<Boolean> simpleTypes = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return computeSimpleType(type);
+		}
+	};
 
 	/**
 	 * Creates a new {@link SimpleTypeHolder} containing the default types.
@@ -96,13 +99,15 @@ public class SimpleTypeHolder {
 
 		Assert.notNull(customSimpleTypes, "CustomSimpleTypes must not be null!");
 
-		this.simpleTypes = new WeakHashMap<>(customSimpleTypes.size() + DEFAULTS.size());
+		Set<Class<?>> registeredTypes = new HashSet<>(customSimpleTypes.size() + DEFAULTS.size());
 
-		register(customSimpleTypes);
+		registeredTypes.addAll(customSimpleTypes);
 
 		if (registerDefaults) {
-			register(DEFAULTS);
+			registeredTypes.addAll(DEFAULTS);
 		}
+
+		this.registeredTypes = Collections.unmodifiableSet(registeredTypes);
 	}
 
 	/**
@@ -116,22 +121,12 @@ public class SimpleTypeHolder {
 		Assert.notNull(customSimpleTypes, "CustomSimpleTypes must not be null!");
 		Assert.notNull(source, "SourceTypeHolder must not be null!");
 
-		this.simpleTypes = new WeakHashMap<>(customSimpleTypes.size() + source.simpleTypes.size());
-
-		register(customSimpleTypes);
-		registerCachePositives(source.simpleTypes);
-	}
-
-	private void registerCachePositives(Map<Class<?>, Boolean> source) {
+		Set<Class<?>> registeredTypes = new HashSet<>(customSimpleTypes.size() + source.registeredTypes.size());
 
-		for (Entry<Class<?>, Boolean> entry : source.entrySet()) {
+		registeredTypes.addAll(customSimpleTypes);
+		registeredTypes.addAll(source.registeredTypes);
 
-			if (!entry.getValue()) {
-				continue;
-			}
-
-			this.simpleTypes.put(entry.getKey(), true);
-		}
+		this.registeredTypes = Collections.unmodifiableSet(registeredTypes);
 	}
 
 	/**
@@ -144,44 +139,33 @@ public class SimpleTypeHolder {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		Map<Class<?>, Boolean> localSimpleTypes = this.simpleTypes;
-		Boolean isSimpleType = localSimpleTypes.get(type);
+		return simpleTypes.get(type);
+	}
 
-		if (Object.class.equals(type)) {
-			return true;
-		}
+	/**
+	 * Determines whether the given type is a simple one. Results are cached per type through a {@link ClassValue} so that
+	 * the cache does not prevent the type's {@link ClassLoader} from being garbage collected.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private boolean computeSimpleType(Class<?> type) {
 
-		if (isSimpleType != null) {
-			return isSimpleType;
+		if (Object.class.equals(type) || registeredTypes.contains(type)) {
+			return true;
 		}
 
 		if (type.getName().startsWith("java.lang")) {
 			return true;
 		}
 
-		for (Class<?> simpleType : localSimpleTypes.keySet()) {
+		for (Class<?> simpleType : registeredTypes) {
 
 			if (simpleType.isAssignableFrom(type)) {
-
-				isSimpleType = localSimpleTypes.get(simpleType);
-				this.simpleTypes = put(localSimpleTypes, type, isSimpleType);
-				return isSimpleType;
+				return true;
 			}
 		}
 
-		this.simpleTypes = put(localSimpleTypes, type, false);
 		return false;
 	}
-
-	private void register(Collection<? extends Class<?>> types) {
-		types.forEach(customSimpleType -> this.simpleTypes.put(customSimpleType, true));
-	}
-
-	private static Map<Class<?>, Boolean> put(Map<Class<?>, Boolean> simpleTypes, Class<?> type, boolean isSimpleType) {
-
-		Map<Class<?>, Boolean> copy = new WeakHashMap<>(simpleTypes);
-		copy.put(type, isSimpleType);
-
-		return copy;
-	}
 }
@@ -15,15 +15,21 @@
  */
 package org.springframework.data.mapping.model;
 
+import java.util.Map;
+
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Simple factory to create {@link SpelExpressionParser} and {@link EvaluationContext} instances.
@@ -34,7 +40,8 @@ public class SpELContext {
 
 	private final SpelExpressionParser parser;
 	private final PropertyAccessor accessor;
-	private final @Nullable BeanFactory factory;
+	private final @Nullable BeanFactoryResolver resolver;
+	private final Map<String, Expression> expressions;
 
 	/**
 	 * Creates a new {@link SpELContext} with the given {@link PropertyAccessor}. Defaults the
@@ -65,7 +72,46 @@ public class SpELContext {
 	 * @param factory
 	 */
 	public SpELContext(SpELContext source, BeanFactory factory) {
-		this(source.accessor, source.parser, factory);
+		this(source.accessor, source.parser, factory, source.expressions);
+	}
+
+	/**
+	 * Creates a new {@link SpELContext} with the given {@link PropertyAccessor} that compiles expressions using the given
+	 * {@link SpelCompilerMode}. Compiled expressions perform significantly better for repeated evaluations but require
+	 * the {@link PropertyAccessor} to be a {@link org.springframework.expression.spel.CompilablePropertyAccessor} for
+	 * property references to be compiled. {@link SpelCompilerMode#MIXED} falls back to interpretation for expressions
+	 * that cannot be compiled. Compiled expressions are loaded through a child of the thread context {@link ClassLoader}
+	 * active at compilation time.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param compilerMode must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 * @see #withCompilerMode(PropertyAccessor, SpelCompilerMode, ClassLoader)
+	 */
+	public static SpELContext withCompilerMode(PropertyAccessor accessor, SpelCompilerMode compilerMode) {
+		return withCompilerMode(accessor, compilerMode, null);
+	}
+
+	/**
+	 * Creates a new {@link SpELContext} with the given {@link PropertyAccessor} that compiles expressions using the given
+	 * {@link SpelCompilerMode} and loads the compiled expressions through a child of the given {@link ClassLoader}. The
+	 * {@link ClassLoader} has to be able to see all types the compiled expressions refer to.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param compilerMode must not be {@literal null}.
+	 * @param classLoader can be {@literal null} to use the thread context {@link ClassLoader} active at compilation time.
+	 * @return
+	 * @since 2.1
+	 */
+	public static SpELContext withCompilerMode(PropertyAccessor accessor, SpelCompilerMode compilerMode,
+			@Nullable ClassLoader classLoader) {
+
+		Assert.notNull(compilerMode, "SpelCompilerMode must not be null!");
+
+		SpelParserConfiguration configuration = new SpelParserConfiguration(compilerMode, classLoader);
+
+		return new SpELContext(accessor, new SpelExpressionParser(configuration), null);
 	}
 
 	/**
@@ -78,12 +124,18 @@ public class SpELContext {
 	 * @param factory
 	 */
 	private SpELContext(PropertyAccessor accessor, @Nullable SpelExpressionParser parser, @Nullable BeanFactory factory) {
+		this(accessor, parser, factory, new ConcurrentReferenceHashMap<>());
+	}
+
+	private SpELContext(PropertyAccessor accessor, @Nullable SpelExpressionParser parser, @Nullable BeanFactory factory,
+			Map<String, Expression> expressions) {
 
 		Assert.notNull(accessor, "PropertyAccessor must not be null!");
 
 		this.parser = parser == null ? new SpelExpressionParser() : parser;
 		this.accessor = accessor;
-		this.factory = factory;
+		this.resolver = factory == null ? null : new BeanFactoryResolver(factory);
+		this.expressions = expressions;
 	}
 
 	/*
@@ -94,6 +146,23 @@ public class SpELContext {
 		return this.parser;
 	}
 
+	/**
+	 * Returns the parsed {@link Expression} for the given expression {@link String}. Expressions are parsed once and
+	 * reused for subsequent lookups, so that compiled expressions retain their compiled state.
+	 *
+	 * @param expression must not be {@literal null} or empty.
+	 * @return
+	 * @since 2.1
+	 */
+	public Expression getExpression(String expression) {
+
+		Assert.hasText(expression, "Expression must not be null or empty!");
+
+		Expression result = expressions.get(expression);
+
+		return result != null ? result : expressions.computeIfAbsent(expression, parser::parseExpression);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.SpELContext#getEvaluationContext(java.lang.Object)
@@ -103,8 +172,8 @@ public class SpELContext {
 		StandardEvaluationContext evaluationContext = new StandardEvaluationContext(source);
 		evaluationContext.addPropertyAccessor(accessor);
 
-		if (factory != null) {
-			evaluationContext.setBeanResolver(new BeanFactoryResolver(factory));
+		if (resolver != null) {
+			evaluationContext.setBeanResolver(resolver);
 		}
 
 		return evaluationContext;
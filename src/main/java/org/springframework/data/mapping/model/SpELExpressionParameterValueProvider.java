@@ -32,7 +32,7 @@ import org.springframework.lang.Nullable;
  */
 @RequiredArgsConstructor
 public class SpELExpressionParameterValueProvider<P extends PersistentProperty<P>>
-		implements ParameterValueProvider<P> {
+		implements PlanAwareParameterValueProvider<P> {
 
 	private final @NonNull SpELExpressionEvaluator evaluator;
 	private final @NonNull ConversionService conversionService;
@@ -53,6 +53,24 @@ public class SpELExpressionParameterValueProvider<P extends PersistentProperty<P
 		return object == null ? null : potentiallyConvertSpelValue(object, parameter);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.model.PlanAwareParameterValueProvider#getParameterValue(org.springframework.data.mapping.model.ConstructorParameterPlan, int)
+	 */
+	@Nullable
+	@Override
+	public Object getParameterValue(ConstructorParameterPlan<P> plan, int index) {
+
+		Parameter<Object, P> parameter = plan.getParameter(index);
+
+		if (!parameter.hasSpelExpression()) {
+			return delegate == null ? null : plan.getParameterValue(index, delegate);
+		}
+
+		Object object = evaluator.evaluate(parameter.getSpelExpression());
+		return object == null ? null : potentiallyConvertSpelValue(object, parameter);
+	}
+
 	/**
 	 * Hook to allow to massage the value resulting from the Spel expression evaluation. Default implementation will
 	 * leverage the configured {@link ConversionService} to massage the value into the parameter type.
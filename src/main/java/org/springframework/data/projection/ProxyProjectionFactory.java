@@ -28,10 +28,10 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.util.TypeCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A {@link ProjectionFactory} to create JDK proxies to back interfaces and handle method invocations on them. By
@@ -48,7 +48,8 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 
 	private final List<MethodInterceptorFactory> factories;
 	private final ConversionService conversionService;
-	private final Map<Class<?>, ProjectionInformation> projectionInformationCache = new ConcurrentReferenceHashMap<>();
+	private final TypeCache<ProjectionInformation> projectionInformationCache = TypeCache
+			.of(this::createProjectionInformation);
 	private @Nullable ClassLoader classLoader;
 
 	/**
@@ -133,7 +134,7 @@ class ProxyProjectionFactory implements ProjectionFactory, BeanClassLoaderAware
 	@Override
 	public final ProjectionInformation getProjectionInformation(Class<?> projectionType) {
 
-		return projectionInformationCache.computeIfAbsent(projectionType, this::createProjectionInformation);
+		return projectionInformationCache.get(projectionType);
 	}
 
 	/**
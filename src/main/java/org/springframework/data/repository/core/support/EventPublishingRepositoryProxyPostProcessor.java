@@ -21,7 +21,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -33,9 +32,9 @@ import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.util.AnnotationDetectionMethodCallback;
+import org.springframework.data.util.TypeCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -115,8 +114,9 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 	@RequiredArgsConstructor
 	static class EventPublishingMethod {
 
-		private static Map<Class<?>, EventPublishingMethod> CACHE = new ConcurrentReferenceHashMap<>();
 		private static @SuppressWarnings("null") EventPublishingMethod NONE = new EventPublishingMethod(null, null);
+		private static TypeCache<EventPublishingMethod> CACHE = TypeCache.of(type -> from(
+				getDetector(type, DomainEvents.class), () -> getDetector(type, AfterDomainEventPublication.class)));
 
 		private final Method publishingMethod;
 		private final @Nullable Method clearingMethod;
@@ -133,18 +133,7 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 
 			Assert.notNull(type, "Type must not be null!");
 
-			EventPublishingMethod eventPublishingMethod = CACHE.get(type);
-
-			if (eventPublishingMethod != null) {
-				return eventPublishingMethod.orNull();
-			}
-
-			EventPublishingMethod result = from(getDetector(type, DomainEvents.class),
-					() -> getDetector(type, AfterDomainEventPublication.class));
-
-			CACHE.put(type, result);
-
-			return result.orNull();
+			return CACHE.get(type).orNull();
 		}
 
 		/**
@@ -28,6 +28,7 @@ import org.springframework.data.repository.util.NullableWrapper;
 import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Simple domain service to convert query results into a dedicated type.
@@ -40,6 +41,7 @@ class QueryExecutionResultHandler {
 	private static final TypeDescriptor WRAPPER_TYPE = TypeDescriptor.valueOf(NullableWrapper.class);
 
 	private final GenericConversionService conversionService;
+	private final Map<Method, ReturnTypeDescriptor> descriptorCache = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link QueryExecutionResultHandler}.
@@ -56,7 +58,7 @@ class QueryExecutionResultHandler {
 	 * Post-processes the given result of a query invocation to match the return type of the given method.
 	 *
 	 * @param result can be {@literal null}.
-	 * @param metho must not be {@literal null}.
+	 * @param method must not be {@literal null}.
 	 * @return
 	 */
 	@Nullable
@@ -66,10 +68,7 @@ class QueryExecutionResultHandler {
 			return result;
 		}
 
-		MethodParameter parameter = new MethodParameter(method, -1);
-		TypeDescriptor methodReturnTypeDescriptor = TypeDescriptor.nested(parameter, 0);
-
-		return postProcessInvocationResult(result, methodReturnTypeDescriptor);
+		return postProcessInvocationResult(result, getReturnTypeDescriptor(method));
 	}
 
 	/**
@@ -86,14 +85,28 @@ class QueryExecutionResultHandler {
 			return result;
 		}
 
-		Class<?> expectedReturnType = returnTypeDescriptor.getType();
-
 		// Early return if the raw value matches
 
-		if (result != null && expectedReturnType.isInstance(result)) {
+		if (result != null && returnTypeDescriptor.getType().isInstance(result)) {
 			return result;
 		}
 
+		return postProcessInvocationResult(result, new ReturnTypeDescriptor(returnTypeDescriptor, conversionService));
+	}
+
+	/**
+	 * Post-processes the given result of a query invocation to the type described by the given
+	 * {@link ReturnTypeDescriptor}.
+	 *
+	 * @param result can be {@literal null}.
+	 * @param descriptor must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private Object postProcessInvocationResult(@Nullable Object result, ReturnTypeDescriptor descriptor) {
+
+		Class<?> expectedReturnType = descriptor.getType();
+
 		result = unwrapOptional(result);
 
 		// Early return if the unrwapped value matches
@@ -102,27 +115,26 @@ class QueryExecutionResultHandler {
 			return result;
 		}
 
-		if (QueryExecutionConverters.supports(expectedReturnType)) {
-
-			TypeDescriptor targetType = TypeDescriptor.valueOf(expectedReturnType);
-
-			if (conversionService.canConvert(WRAPPER_TYPE, returnTypeDescriptor)
-					&& !conversionService.canBypassConvert(WRAPPER_TYPE, targetType)) {
+		if (descriptor.isQueryExecutionWrapper()) {
 
+			if (descriptor.isConvertNullableWrapper()) {
 				return conversionService.convert(new NullableWrapper(result), expectedReturnType);
 			}
 
-			if (result != null
-					&& conversionService.canConvert(TypeDescriptor.valueOf(result.getClass()), returnTypeDescriptor)
-					&& !conversionService.canBypassConvert(TypeDescriptor.valueOf(result.getClass()), targetType)) {
+			if (result != null) {
 
-				return conversionService.convert(result, expectedReturnType);
+				TypeDescriptor sourceType = TypeDescriptor.valueOf(result.getClass());
+
+				if (conversionService.canConvert(sourceType, descriptor.getTypeDescriptor())
+						&& !conversionService.canBypassConvert(sourceType, descriptor.getTargetType())) {
+					return conversionService.convert(result, expectedReturnType);
+				}
 			}
 		}
 
 		if (result != null) {
 
-			if (ReactiveWrapperConverters.supports(expectedReturnType)) {
+			if (descriptor.isReactiveWrapper()) {
 				return ReactiveWrapperConverters.toWrapper(result, expectedReturnType);
 			}
 
@@ -131,11 +143,28 @@ class QueryExecutionResultHandler {
 					: result;
 		}
 
-		return Map.class.equals(expectedReturnType) //
+		return descriptor.isMap() //
 				? CollectionFactory.createMap(expectedReturnType, 0) //
 				: null;
 	}
 
+	/**
+	 * Returns the {@link ReturnTypeDescriptor} for the given {@link Method}, resolving it on first access.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private ReturnTypeDescriptor getReturnTypeDescriptor(Method method) {
+
+		ReturnTypeDescriptor descriptor = descriptorCache.get(method);
+
+		if (descriptor != null) {
+			return descriptor;
+		}
+
+		return descriptorCache.computeIfAbsent(method, it -> new ReturnTypeDescriptor(it, conversionService));
+	}
+
 	/**
 	 * Unwraps the given value if it's a JDK 8 {@link Optional}.
 	 *
@@ -152,4 +181,113 @@ class QueryExecutionResultHandler {
 
 		return Optional.class.isInstance(source) ? Optional.class.cast(source).orElse(null) : source;
 	}
+
+	/**
+	 * Conversion plan for the return type of a query method. Captures all checks that only depend on the declared return
+	 * type so that they're performed once per method instead of once per invocation.
+	 */
+	private static final class ReturnTypeDescriptor {
+
+		private final TypeDescriptor typeDescriptor;
+		private final TypeDescriptor targetType;
+		private final boolean queryExecutionWrapper;
+		private final boolean convertNullableWrapper;
+		private final boolean reactiveWrapper;
+		private final boolean map;
+
+		/**
+		 * Creates a new {@link ReturnTypeDescriptor} for the given {@link Method} and {@link GenericConversionService}.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
+		 */
+		ReturnTypeDescriptor(Method method, GenericConversionService conversionService) {
+			this(TypeDescriptor.nested(new MethodParameter(method, -1), 0), conversionService);
+		}
+
+		/**
+		 * Creates a new {@link ReturnTypeDescriptor} for the given {@link TypeDescriptor} and
+		 * {@link GenericConversionService}.
+		 *
+		 * @param typeDescriptor must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
+		 */
+		ReturnTypeDescriptor(TypeDescriptor typeDescriptor, GenericConversionService conversionService) {
+
+			this.typeDescriptor = typeDescriptor;
+
+			Class<?> type = typeDescriptor.getType();
+
+			this.targetType = TypeDescriptor.valueOf(type);
+			this.queryExecutionWrapper = QueryExecutionConverters.supports(type);
+			this.convertNullableWrapper = queryExecutionWrapper //
+					&& conversionService.canConvert(WRAPPER_TYPE, typeDescriptor) //
+					&& !conversionService.canBypassConvert(WRAPPER_TYPE, targetType);
+			this.reactiveWrapper = ReactiveWrapperConverters.supports(type);
+			this.map = Map.class.equals(type);
+		}
+
+		/**
+		 * Returns the raw return type.
+		 *
+		 * @return
+		 */
+		Class<?> getType() {
+			return typeDescriptor.getType();
+		}
+
+		/**
+		 * Returns the {@link TypeDescriptor} for the return type including its generics.
+		 *
+		 * @return
+		 */
+		TypeDescriptor getTypeDescriptor() {
+			return typeDescriptor;
+		}
+
+		/**
+		 * Returns the {@link TypeDescriptor} for the raw return type.
+		 *
+		 * @return
+		 */
+		TypeDescriptor getTargetType() {
+			return targetType;
+		}
+
+		/**
+		 * Returns whether the return type is a wrapper type supported by {@link QueryExecutionConverters}.
+		 *
+		 * @return
+		 */
+		boolean isQueryExecutionWrapper() {
+			return queryExecutionWrapper;
+		}
+
+		/**
+		 * Returns whether results have to be converted into the return type via a {@link NullableWrapper}.
+		 *
+		 * @return
+		 */
+		boolean isConvertNullableWrapper() {
+			return convertNullableWrapper;
+		}
+
+		/**
+		 * Returns whether the return type is a reactive wrapper type.
+		 *
+		 * @return
+		 */
+		boolean isReactiveWrapper() {
+			return reactiveWrapper;
+		}
+
+		/**
+		 * Returns whether the return type is {@link Map}.
+		 *
+		 * @return
+		 */
+		boolean isMap() {
+			return map;
+		}
+	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * SPI to record metrics of repository method invocations captured by {@link RepositoryMetricsProxyPostProcessor}.
+ * Implementations are invoked on the calling thread for every repository method invocation and must thus be
+ * thread-safe and cheap. Use {@link RepositoryInformation#isQueryMethod(Method)} to tell query methods apart from
+ * CRUD and custom implementation methods.
+ *
+ * @author agent
+ * @since 2.1
+ * @see SimpleRepositoryInvocationMetrics
+ */
+public interface RepositoryInvocationMetrics {
+
+	/**
+	 * Records a completed invocation of the given repository method.
+	 *
+	 * @param repository will never be {@literal null}.
+	 * @param method the invoked repository method, will never be {@literal null}.
+	 * @param durationNanos the time spent in the invocation in nanoseconds.
+	 * @param error the exception thrown by the invocation, {@literal null} if the invocation completed normally.
+	 */
+	void recordInvocation(RepositoryInformation repository, Method method, long durationNanos, @Nullable Throwable error);
+
+	/**
+	 * Records the number of elements returned by an invocation of the given repository method. Only invoked for methods
+	 * returning a {@link java.util.Collection}, {@link org.springframework.data.domain.Slice} or
+	 * {@link java.util.stream.Stream}. For the latter the number of elements consumed by the caller is recorded once the
+	 * {@link java.util.stream.Stream} is closed, so a {@link java.util.stream.Stream} that is never closed doesn't get
+	 * its size recorded.
+	 *
+	 * @param repository will never be {@literal null}.
+	 * @param method the invoked repository method, will never be {@literal null}.
+	 * @param size the number of elements returned.
+	 */
+	void recordResultSize(RepositoryInformation repository, Method method, long size);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryProxyPostProcessor} to register a {@link MethodInterceptor} that records the invocation count,
+ * latency, errors and result sizes of all repository method invocations with a {@link RepositoryInvocationMetrics}.
+ * Register it with {@link RepositoryFactorySupport#addRepositoryProxyPostProcessor(RepositoryProxyPostProcessor)}.
+ *
+ * @author agent
+ * @since 2.1
+ * @see SimpleRepositoryInvocationMetrics
+ */
+@RequiredArgsConstructor
+public class RepositoryMetricsProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final @NonNull RepositoryInvocationMetrics metrics;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+		factory.addAdvice(new MetricsRecordingMethodInterceptor(repositoryInformation, metrics));
+	}
+
+	/**
+	 * {@link MethodInterceptor} to time repository method invocations and hand the results to
+	 * {@link RepositoryInvocationMetrics}.
+	 *
+	 * @author agent
+	 * @since 2.1
+	 */
+	@RequiredArgsConstructor
+	static class MetricsRecordingMethodInterceptor implements MethodInterceptor {
+
+		private final @NonNull RepositoryInformation repository;
+		private final @NonNull RepositoryInvocationMetrics metrics;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Nullable
+		@Override
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+			long start = System.nanoTime();
+			Object result;
+
+			try {
+				result = invocation.proceed();
+			} catch (Throwable o_O) {
+
+				metrics.recordInvocation(repository, method, System.nanoTime() - start, o_O);
+				throw o_O;
+			}
+
+			metrics.recordInvocation(repository, method, System.nanoTime() - start, null);
+
+			return recordResultSize(method, result);
+		}
+
+		/**
+		 * Records the size of {@link Collection} and {@link Slice} results. {@link Stream} results are decorated to count
+		 * the elements the caller actually consumes and that count is recorded once the {@link Stream} is closed.
+		 */
+		@Nullable
+		private Object recordResultSize(Method method, @Nullable Object result) {
+
+			if (result instanceof Collection) {
+				metrics.recordResultSize(repository, method, ((Collection<?>) result).size());
+			} else if (result instanceof Slice) {
+				metrics.recordResultSize(repository, method, ((Slice<?>) result).getNumberOfElements());
+			} else if (result instanceof Stream) {
+
+				LongAdder elements = new LongAdder();
+
+				return ((Stream<?>) result) //
+						.peek(it -> elements.increment()) //
+						.onClose(() -> metrics.recordResultSize(repository, method, elements.sum()));
+			}
+
+			return result;
+		}
+	}
+}
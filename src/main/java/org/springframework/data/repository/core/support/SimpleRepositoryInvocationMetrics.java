@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link RepositoryInvocationMetrics} keeping counters per repository interface and method in memory. Recording
+ * an invocation boils down to two map lookups and a couple of {@link LongAdder} increments. Latencies are tracked in a
+ * histogram of power-of-two nanosecond buckets.
+ *
+ * @author agent
+ * @since 2.1
+ */
+public class SimpleRepositoryInvocationMetrics implements RepositoryInvocationMetrics {
+
+	private final Map<Class<?>, Map<Method, MethodMetrics>> metrics = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryInvocationMetrics#recordInvocation(org.springframework.data.repository.core.RepositoryInformation, java.lang.reflect.Method, long, java.lang.Throwable)
+	 */
+	@Override
+	public void recordInvocation(RepositoryInformation repository, Method method, long durationNanos,
+			@Nullable Throwable error) {
+		getOrCreateMethodMetrics(repository.getRepositoryInterface(), method).recordInvocation(durationNanos, error);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryInvocationMetrics#recordResultSize(org.springframework.data.repository.core.RepositoryInformation, java.lang.reflect.Method, long)
+	 */
+	@Override
+	public void recordResultSize(RepositoryInformation repository, Method method, long size) {
+		getOrCreateMethodMetrics(repository.getRepositoryInterface(), method).recordResultSize(size);
+	}
+
+	/**
+	 * Returns the {@link MethodMetrics} recorded for the given repository interface and method.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return the {@link MethodMetrics} or {@literal null} if the method was not invoked yet.
+	 */
+	@Nullable
+	public MethodMetrics getMethodMetrics(Class<?> repositoryInterface, Method method) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return getMethodMetrics(repositoryInterface).get(method);
+	}
+
+	/**
+	 * Returns the {@link MethodMetrics} recorded for all methods of the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Map<Method, MethodMetrics> getMethodMetrics(Class<?> repositoryInterface) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null!");
+
+		Map<Method, MethodMetrics> methodMetrics = metrics.get(repositoryInterface);
+
+		return methodMetrics == null ? Collections.emptyMap() : Collections.unmodifiableMap(methodMetrics);
+	}
+
+	private MethodMetrics getOrCreateMethodMetrics(Class<?> repositoryInterface, Method method) {
+
+		Map<Method, MethodMetrics> methodMetrics = metrics.get(repositoryInterface);
+
+		if (methodMetrics == null) {
+			methodMetrics = metrics.computeIfAbsent(repositoryInterface, it -> new ConcurrentHashMap<>());
+		}
+
+		MethodMetrics result = methodMetrics.get(method);
+
+		return result != null ? result : methodMetrics.computeIfAbsent(method, it -> new MethodMetrics());
+	}
+
+	/**
+	 * Metrics recorded for a single repository method.
+	 *
+	 * @author agent
+	 * @since 2.1
+	 */
+	public static class MethodMetrics {
+
+		private static final int BUCKETS = 64;
+
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] histogram = new LongAdder[BUCKETS];
+		private final LongAdder sizedResults = new LongAdder();
+		private final LongAdder resultElements = new LongAdder();
+
+		MethodMetrics() {
+
+			for (int i = 0; i < BUCKETS; i++) {
+				histogram[i] = new LongAdder();
+			}
+		}
+
+		void recordInvocation(long durationNanos, @Nullable Throwable error) {
+
+			long nanos = Math.max(durationNanos, 0);
+
+			invocations.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			histogram[getBucket(nanos)].increment();
+
+			if (error != null) {
+				errors.increment();
+			}
+		}
+
+		void recordResultSize(long size) {
+
+			sizedResults.increment();
+			resultElements.add(size);
+		}
+
+		/**
+		 * Returns the number of invocations recorded.
+		 *
+		 * @return
+		 */
+		public long getInvocationCount() {
+			return invocations.sum();
+		}
+
+		/**
+		 * Returns the number of invocations that completed with an exception.
+		 *
+		 * @return
+		 */
+		public long getErrorCount() {
+			return errors.sum();
+		}
+
+		/**
+		 * Returns the accumulated time spent in all invocations.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Duration getTotalTime() {
+			return Duration.ofNanos(totalNanos.sum());
+		}
+
+		/**
+		 * Returns the longest time spent in a single invocation.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Duration getMaxTime() {
+			return Duration.ofNanos(maxNanos.get());
+		}
+
+		/**
+		 * Returns the latency histogram. The value at index {@code i} is the number of invocations that took less than
+		 * {@code 2^i} but at least {@code 2^(i-1)} nanoseconds.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public long[] getLatencyHistogram() {
+
+			long[] result = new long[BUCKETS];
+
+			for (int i = 0; i < BUCKETS; i++) {
+				result[i] = histogram[i].sum();
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns an upper bound for the given percentile of the invocation latency as derived from the latency histogram.
+		 *
+		 * @param percentile between {@literal 0} and {@literal 1}.
+		 * @return will never be {@literal null}.
+		 */
+		public Duration getLatencyPercentile(double percentile) {
+
+			Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1!");
+
+			long[] counts = getLatencyHistogram();
+			long total = 0;
+
+			for (long count : counts) {
+				total += count;
+			}
+
+			long threshold = (long) Math.ceil(total * percentile);
+			long seen = 0;
+
+			for (int i = 0; i < BUCKETS; i++) {
+
+				seen += counts[i];
+
+				if (seen >= threshold && seen > 0) {
+					return Duration.ofNanos(i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+				}
+			}
+
+			return Duration.ZERO;
+		}
+
+		/**
+		 * Returns the number of invocations that returned a result with a known number of elements.
+		 *
+		 * @return
+		 */
+		public long getSizedResultCount() {
+			return sizedResults.sum();
+		}
+
+		/**
+		 * Returns the accumulated number of elements returned by invocations with a sized result.
+		 *
+		 * @return
+		 */
+		public long getResultElementCount() {
+			return resultElements.sum();
+		}
+
+		private static int getBucket(long nanos) {
+			return Math.min(BUCKETS - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+		}
+	}
+}
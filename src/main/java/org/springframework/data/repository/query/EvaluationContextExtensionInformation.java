@@ -40,6 +40,7 @@ import org.springframework.data.repository.query.spi.Function;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
@@ -64,6 +65,7 @@ class EvaluationContextExtensionInformation {
 
 	private final ExtensionTypeInformation extensionTypeInformation;
 	private final Optional<RootObjectInformation> rootObjectInformation;
+	private final Map<Class<?>, RootObjectInformation> dynamicRootObjectInformation = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link EvaluationContextExtension} for the given extension type.
@@ -93,17 +95,26 @@ class EvaluationContextExtensionInformation {
 
 	/**
 	 * Returns the {@link RootObjectInformation} for the given target object. If the information has been pre-computed
-	 * earlier, the existing one will be used.
+	 * earlier, the existing one will be used. Information for root objects whose type is only known at runtime is cached
+	 * per type.
 	 *
 	 * @param target
 	 * @return
 	 */
 	public RootObjectInformation getRootObjectInformation(Optional<Object> target) {
 
-		return target.map(it -> rootObjectInformation.orElseGet(() -> new RootObjectInformation(it.getClass())))
+		return target.map(it -> rootObjectInformation.orElseGet(() -> getDynamicRootObjectInformation(it.getClass())))
 				.orElse(RootObjectInformation.NONE);
 	}
 
+	private RootObjectInformation getDynamicRootObjectInformation(Class<?> type) {
+
+		RootObjectInformation information = dynamicRootObjectInformation.get(type);
+
+		return information != null ? information
+				: dynamicRootObjectInformation.computeIfAbsent(type, RootObjectInformation::new);
+	}
+
 	/**
 	 * Static information about the given {@link EvaluationContextExtension} type. Discovers public static methods and
 	 * fields. The fields' values are obtained directly, the methods are exposed {@link Function} invocations.
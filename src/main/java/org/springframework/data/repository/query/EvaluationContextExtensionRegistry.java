@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.repository.query.spi.EvaluationContextExtension;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable registry of {@link EvaluationContextExtension}s and their {@link EvaluationContextExtensionInformation}.
+ * The extensions are sorted and the type information is computed once on creation, so that lookups during
+ * {@link org.springframework.expression.EvaluationContext} creation neither mutate shared state nor need any
+ * synchronization.
+ *
+ * @author agent
+ * @since 2.1
+ */
+class EvaluationContextExtensionRegistry {
+
+	private final List<EvaluationContextExtension> extensions;
+	private final Map<Class<?>, EvaluationContextExtensionInformation> information;
+
+	/**
+	 * Creates a new {@link EvaluationContextExtensionRegistry} for the given {@link EvaluationContextExtension}s.
+	 *
+	 * @param extensions must not be {@literal null}.
+	 */
+	EvaluationContextExtensionRegistry(List<? extends EvaluationContextExtension> extensions) {
+
+		Assert.notNull(extensions, "Extensions must not be null!");
+
+		List<EvaluationContextExtension> sorted = new ArrayList<>(extensions);
+		sorted.sort(AnnotationAwareOrderComparator.INSTANCE);
+
+		Map<Class<?>, EvaluationContextExtensionInformation> information = new HashMap<>(sorted.size());
+
+		for (EvaluationContextExtension extension : sorted) {
+			information.computeIfAbsent(extension.getClass(),
+					type -> new EvaluationContextExtensionInformation(extension.getClass()));
+		}
+
+		this.extensions = Collections.unmodifiableList(sorted);
+		this.information = Collections.unmodifiableMap(information);
+	}
+
+	/**
+	 * Returns the registered {@link EvaluationContextExtension}s in the order of their precedence.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<EvaluationContextExtension> getExtensions() {
+		return extensions;
+	}
+
+	/**
+	 * Returns the {@link EvaluationContextExtensionInformation} for the given {@link EvaluationContextExtension}.
+	 *
+	 * @param extension must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	EvaluationContextExtensionInformation getInformation(EvaluationContextExtension extension) {
+
+		Assert.notNull(extension, "Extension must not be null!");
+
+		EvaluationContextExtensionInformation result = information.get(extension.getClass());
+
+		return result != null ? result : new EvaluationContextExtensionInformation(extension.getClass());
+	}
+}
@@ -25,7 +25,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -33,7 +32,6 @@ import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.expression.BeanFactoryResolver;
-import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.repository.query.EvaluationContextExtensionInformation.ExtensionTypeInformation;
 import org.springframework.data.repository.query.EvaluationContextExtensionInformation.RootObjectInformation;
@@ -53,6 +51,7 @@ import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -67,18 +66,17 @@ import org.springframework.util.StringUtils;
  */
 public class ExtensionAwareEvaluationContextProvider implements EvaluationContextProvider, ApplicationContextAware {
 
-	private final Map<Class<?>, EvaluationContextExtensionInformation> extensionInformationCache = new HashMap<>();
+	private final Map<Parameters<?, ?>, ParameterVariables> variablesCache = new ConcurrentReferenceHashMap<>();
+	private final PropertyAccessor reflectivePropertyAccessor = new ReflectivePropertyAccessor();
 
-	private final Lazy<List<? extends EvaluationContextExtension>> extensions;
+	private volatile @Nullable EvaluationContextExtensionRegistry registry;
 	private Optional<ListableBeanFactory> beanFactory = Optional.empty();
 
 	/**
 	 * Creates a new {@link ExtensionAwareEvaluationContextProvider}. Extensions are being looked up lazily from the
 	 * {@link BeanFactory} configured.
 	 */
-	public ExtensionAwareEvaluationContextProvider() {
-		this.extensions = Lazy.of(() -> getExtensionsFrom(beanFactory));
-	}
+	public ExtensionAwareEvaluationContextProvider() {}
 
 	/**
 	 * Creates a new {@link ExtensionAwareEvaluationContextProvider} for the given {@link EvaluationContextExtension}s.
@@ -88,7 +86,7 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 	public ExtensionAwareEvaluationContextProvider(List<? extends EvaluationContextExtension> extensions) {
 
 		Assert.notNull(extensions, "List of EvaluationContextExtensions must not be null!");
-		this.extensions = Lazy.of(() -> extensions);
+		this.registry = new EvaluationContextExtensionRegistry(extensions);
 	}
 
 	/*
@@ -111,10 +109,10 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 
 		beanFactory.ifPresent(it -> ec.setBeanResolver(new BeanFactoryResolver(it)));
 
-		ExtensionAwarePropertyAccessor accessor = new ExtensionAwarePropertyAccessor(extensions.get());
+		ExtensionAwarePropertyAccessor accessor = new ExtensionAwarePropertyAccessor(getRegistry());
 
 		ec.addPropertyAccessor(accessor);
-		ec.addPropertyAccessor(new ReflectivePropertyAccessor());
+		ec.addPropertyAccessor(reflectivePropertyAccessor);
 		ec.addMethodResolver(accessor);
 
 		// Add parameters for indexed access
@@ -126,7 +124,7 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 
 	/**
 	 * Exposes variables for all named parameters for the given arguments. Also exposes non-bindable parameters under the
-	 * names of their types.
+	 * names of their types. The variable names are resolved once per {@link Parameters} instance.
 	 *
 	 * @param parameters must not be {@literal null}.
 	 * @param arguments must not be {@literal null}.
@@ -134,66 +132,56 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 	 */
 	private <T extends Parameters<?, ?>> Map<String, Object> collectVariables(T parameters, Object[] arguments) {
 
-		Map<String, Object> variables = new HashMap<>();
-
-		parameters.stream()//
-				.filter(Parameter::isSpecialParameter)//
-				.forEach(it -> variables.put(//
-						StringUtils.uncapitalize(it.getType().getSimpleName()), //
-						arguments[it.getIndex()]));
+		ParameterVariables variables = variablesCache.get(parameters);
 
-		parameters.stream()//
-				.filter(Parameter::isNamedParameter)//
-				.forEach(it -> variables.put(//
-						it.getName().orElseThrow(() -> new IllegalStateException("Should never occur!")), //
-						arguments[it.getIndex()]));
+		if (variables == null) {
+			variables = variablesCache.computeIfAbsent(parameters, ParameterVariables::new);
+		}
 
-		return variables;
+		return variables.toMap(arguments);
 	}
 
 	/**
-	 * Looks up all {@link EvaluationContextExtension} instances from the given {@link ListableBeanFactory}.
+	 * Returns the {@link EvaluationContextExtensionRegistry} to use. If no extensions were given explicitly, they are
+	 * looked up from the configured {@link BeanFactory} exactly once.
 	 *
-	 * @param beanFactory must not be {@literal null}.
-	 * @return
+	 * @return will never be {@literal null}.
 	 */
-	private static List<? extends EvaluationContextExtension> getExtensionsFrom(
-			Optional<ListableBeanFactory> beanFactory) {
+	private EvaluationContextExtensionRegistry getRegistry() {
 
-		Collection<? extends EvaluationContextExtension> extensions = beanFactory//
-				.map(it -> it.getBeansOfType(EvaluationContextExtension.class, true, false).values())//
-				.orElseGet(() -> Collections.emptyList());
+		EvaluationContextExtensionRegistry registry = this.registry;
 
-		return new ArrayList<>(extensions);
-	}
+		if (registry != null) {
+			return registry;
+		}
 
-	/**
-	 * Looks up the {@link EvaluationContextExtensionInformation} for the given {@link EvaluationContextExtension} from
-	 * the cache or creates a new one and caches that for later lookup.
-	 *
-	 * @param extension must not be {@literal null}.
-	 * @return
-	 */
-	private EvaluationContextExtensionInformation getOrCreateInformation(EvaluationContextExtension extension) {
+		synchronized (this) {
+
+			registry = this.registry;
 
-		Class<? extends EvaluationContextExtension> extensionType = extension.getClass();
+			if (registry == null) {
+				registry = new EvaluationContextExtensionRegistry(getExtensionsFrom(beanFactory));
+				this.registry = registry;
+			}
 
-		return extensionInformationCache.computeIfAbsent(extensionType,
-				type -> new EvaluationContextExtensionInformation(extensionType));
+			return registry;
+		}
 	}
 
 	/**
-	 * Creates {@link EvaluationContextExtensionAdapter}s for the given {@link EvaluationContextExtension}s.
+	 * Looks up all {@link EvaluationContextExtension} instances from the given {@link ListableBeanFactory}.
 	 *
-	 * @param extensions
+	 * @param beanFactory must not be {@literal null}.
 	 * @return
 	 */
-	private List<EvaluationContextExtensionAdapter> toAdapters(List<? extends EvaluationContextExtension> extensions) {
+	private static List<? extends EvaluationContextExtension> getExtensionsFrom(
+			Optional<ListableBeanFactory> beanFactory) {
 
-		return extensions.stream()//
-				.sorted(AnnotationAwareOrderComparator.INSTANCE)//
-				.map(it -> new EvaluationContextExtensionAdapter(it, getOrCreateInformation(it)))//
-				.collect(Collectors.toList());
+		Collection<? extends EvaluationContextExtension> extensions = beanFactory//
+				.map(it -> it.getBeansOfType(EvaluationContextExtension.class, true, false).values())//
+				.orElseGet(() -> Collections.emptyList());
+
+		return new ArrayList<>(extensions);
 	}
 
 	/**
@@ -201,23 +189,40 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 	 * @author Oliver Gierke
 	 * @see 1.9
 	 */
-	private class ExtensionAwarePropertyAccessor implements PropertyAccessor, MethodResolver {
+	private static class ExtensionAwarePropertyAccessor implements PropertyAccessor, MethodResolver {
 
-		private final List<EvaluationContextExtensionAdapter> adapters;
-		private final Map<String, EvaluationContextExtensionAdapter> adapterMap;
+		private final List<Lazy<EvaluationContextExtensionAdapter>> adapters;
+		private final Map<String, Lazy<EvaluationContextExtensionAdapter>> adapterMap;
 
 		/**
-		 * Creates a new {@link ExtensionAwarePropertyAccessor} for the given {@link EvaluationContextExtension}s.
+		 * Creates a new {@link ExtensionAwarePropertyAccessor} for the {@link EvaluationContextExtension}s held in the given
+		 * {@link EvaluationContextExtensionRegistry}. The adapters for the extensions are created on demand, so that
+		 * expressions not referring to any extension property or function (e.g. {@code [0]} or {@code #name}) do not cause
+		 * any extension to be populated.
 		 *
-		 * @param extensions must not be {@literal null}.
+		 * @param registry must not be {@literal null}.
 		 */
-		public ExtensionAwarePropertyAccessor(List<? extends EvaluationContextExtension> extensions) {
+		public ExtensionAwarePropertyAccessor(EvaluationContextExtensionRegistry registry) {
+
+			Assert.notNull(registry, "Registry must not be null!");
+
+			List<EvaluationContextExtension> extensions = registry.getExtensions();
+
+			this.adapters = new ArrayList<>(extensions.size());
+			this.adapterMap = new HashMap<>();
 
-			Assert.notNull(extensions, "Extensions must not be null!");
+			for (EvaluationContextExtension extension : extensions) {
 
-			this.adapters = toAdapters(extensions);
-			this.adapterMap = adapters.stream()//
-					.collect(Collectors.toMap(EvaluationContextExtensionAdapter::getExtensionId, it -> it));
+				Lazy<EvaluationContextExtensionAdapter> adapter = Lazy
+						.of(() -> new EvaluationContextExtensionAdapter(extension, registry.getInformation(extension)));
+				String extensionId = extension.getExtensionId();
+
+				if (adapterMap.put(extensionId, adapter) != null) {
+					throw new IllegalStateException(String.format("Duplicate extension id %s!", extensionId));
+				}
+
+				this.adapters.add(adapter);
+			}
 
 			Collections.reverse(this.adapters);
 		}
@@ -237,7 +242,9 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 				return true;
 			}
 
-			return adapters.stream().anyMatch(it -> it.getProperties().containsKey(name));
+			return adapters.stream()//
+					.map(Lazy::get)//
+					.anyMatch(it -> it.getProperties().containsKey(name));
 		}
 
 		/*
@@ -252,10 +259,11 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 			}
 
 			if (adapterMap.containsKey(name)) {
-				return new TypedValue(adapterMap.get(name));
+				return new TypedValue(adapterMap.get(name).get());
 			}
 
 			return adapters.stream()//
+					.map(Lazy::get)//
 					.filter(it -> it.getProperties().containsKey(name))//
 					.map(it -> lookupPropertyFrom(it, name))//
 					.findFirst().orElse(TypedValue.NULL);
@@ -275,6 +283,7 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 			}
 
 			return adapters.stream()//
+					.map(Lazy::get)//
 					.flatMap(it -> Optionals.toStream(getMethodExecutor(it, name, argumentTypes)))//
 					.findFirst().orElse(null);
 		}
@@ -347,6 +356,65 @@ public class ExtensionAwareEvaluationContextProvider implements EvaluationContex
 		}
 	}
 
+	/**
+	 * The variable names and argument indexes to expose for a {@link Parameters} instance.
+	 *
+	 * @since 2.1
+	 */
+	private static class ParameterVariables {
+
+		private final String[] names;
+		private final int[] indexes;
+
+		/**
+		 * Creates a new {@link ParameterVariables} for the given {@link Parameters}. Special parameters are exposed under
+		 * the uncapitalized simple name of their type, named parameters under their name, the latter taking precedence.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 */
+		ParameterVariables(Parameters<?, ?> parameters) {
+
+			List<String> names = new ArrayList<>();
+			List<Integer> indexes = new ArrayList<>();
+
+			for (Parameter parameter : parameters) {
+
+				if (parameter.isSpecialParameter()) {
+					names.add(StringUtils.uncapitalize(parameter.getType().getSimpleName()));
+					indexes.add(parameter.getIndex());
+				}
+			}
+
+			for (Parameter parameter : parameters) {
+
+				if (parameter.isNamedParameter()) {
+					names.add(parameter.getName().orElseThrow(() -> new IllegalStateException("Should never occur!")));
+					indexes.add(parameter.getIndex());
+				}
+			}
+
+			this.names = names.toArray(new String[names.size()]);
+			this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		/**
+		 * Returns the variables for the given arguments.
+		 *
+		 * @param arguments must not be {@literal null}.
+		 * @return
+		 */
+		Map<String, Object> toMap(Object[] arguments) {
+
+			Map<String, Object> variables = new HashMap<>((int) (names.length / 0.75f) + 1);
+
+			for (int i = 0; i < names.length; i++) {
+				variables.put(names[i], arguments[indexes[i]]);
+			}
+
+			return variables;
+		}
+	}
+
 	/**
 	 * {@link MethodExecutor} to invoke {@link Function} instances.
 	 *
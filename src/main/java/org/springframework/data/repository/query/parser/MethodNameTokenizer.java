@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Hand-written tokenizer for derived query method names. Replaces the regular expressions formerly used by
+ * {@link PartTree}, {@link Part} and {@link OrderBySource} while keeping their matching semantics.
+ *
+ * @author agent
+ * @since 2.1
+ */
+@UtilityClass
+class MethodNameTokenizer {
+
+	private static final String[] SUBJECT_PREFIXES = { "find", "read", "get", "query", "stream", "count", "exists",
+			"delete", "remove" };
+	private static final String[] QUERY_PREFIXES = { "find", "read", "get", "query", "stream" };
+	private static final String BY = "By";
+	private static final String DISTINCT = "Distinct";
+	private static final String FIRST = "First";
+	private static final String TOP = "Top";
+
+	/**
+	 * Returns the subject of the given method name including the trailing {@code By}, e.g. {@code findDistinctUserBy}
+	 * for {@code findDistinctUserByNameOrderByAge}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the subject or {@literal null} if the source doesn't start with a supported prefix.
+	 */
+	@Nullable
+	static String detectSubject(String source) {
+
+		for (String prefix : SUBJECT_PREFIXES) {
+
+			if (!source.startsWith(prefix)) {
+				continue;
+			}
+
+			int end = indexAfterBy(source, prefix.length());
+
+			if (end != -1) {
+				return source.substring(0, end);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the number of results a subject like {@code findTop10By} or {@code findFirstBy} is limited to.
+	 *
+	 * @param subject must not be {@literal null}.
+	 * @return the maximum number of results or {@literal null} if the subject is not limiting.
+	 */
+	@Nullable
+	static Integer detectMaxResults(String subject) {
+
+		for (String prefix : QUERY_PREFIXES) {
+
+			if (!subject.startsWith(prefix)) {
+				continue;
+			}
+
+			int index = prefix.length();
+
+			if (subject.startsWith(DISTINCT, index)) {
+				index += DISTINCT.length();
+			}
+
+			if (subject.startsWith(FIRST, index)) {
+				index += FIRST.length();
+			} else if (subject.startsWith(TOP, index)) {
+				index += TOP.length();
+			} else {
+				return null;
+			}
+
+			int digits = index;
+
+			while (index < subject.length() && subject.charAt(index) >= '0' && subject.charAt(index) <= '9') {
+				index++;
+			}
+
+			if (indexAfterBy(subject, index) == -1) {
+				return null;
+			}
+
+			return index > digits ? Integer.valueOf(subject.substring(digits, index)) : 1;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Splits the given text around the given keyword. Only considers occurrences of the keyword that are followed by an
+	 * upper-case letter or a character outside the Basic Latin block, so that derivatives of the keyword (e.g.
+	 * {@code Order} for {@code Or}) are not considered. Follows the semantics of {@link String#split(String)}, i.e.
+	 * trailing empty strings are dropped.
+	 *
+	 * @param text must not be {@literal null}.
+	 * @param keyword must not be {@literal null} or empty.
+	 * @return
+	 */
+	static String[] split(String text, String keyword) {
+
+		List<String> result = null;
+		int start = 0;
+		int index = text.indexOf(keyword);
+
+		while (index != -1) {
+
+			int end = index + keyword.length();
+
+			if (isUpperCaseOrNonLatin(text, end)) {
+
+				if (result == null) {
+					result = new ArrayList<>();
+				}
+
+				result.add(text.substring(start, index));
+				start = end;
+				index = text.indexOf(keyword, end);
+
+			} else {
+				index = text.indexOf(keyword, index + 1);
+			}
+		}
+
+		if (result == null) {
+			return new String[] { text };
+		}
+
+		result.add(text.substring(start));
+
+		int size = result.size();
+
+		while (size > 0 && result.get(size - 1).isEmpty()) {
+			size--;
+		}
+
+		return result.subList(0, size).toArray(new String[size]);
+	}
+
+	/**
+	 * Removes the first occurrence of any of the given tokens from the given text.
+	 *
+	 * @param text must not be {@literal null}.
+	 * @param tokens must not be {@literal null}.
+	 * @return the text without the token or {@literal null} if none of the tokens is contained in the text.
+	 */
+	@Nullable
+	static String removeFirst(String text, String... tokens) {
+
+		for (int i = 0; i < text.length(); i++) {
+			for (String token : tokens) {
+				if (text.startsWith(token, i)) {
+					return text.substring(0, i).concat(text.substring(i + token.length()));
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns whether the code point at the given index is an upper-case letter.
+	 *
+	 * @param text must not be {@literal null}.
+	 * @param index
+	 * @return
+	 */
+	static boolean isUpperCase(String text, int index) {
+		return index < text.length() && Character.getType(text.codePointAt(index)) == Character.UPPERCASE_LETTER;
+	}
+
+	private static boolean isUpperCaseOrNonLatin(String text, int index) {
+		return index < text.length() && (isUpperCase(text, index) || text.codePointAt(index) > 0x7F);
+	}
+
+	/**
+	 * Returns the index after the {@code By} keyword that either directly follows the given index or follows a
+	 * capitalized token starting at the given index.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param index
+	 * @return the index after {@code By} or {@literal -1} if not found.
+	 */
+	private static int indexAfterBy(String source, int index) {
+
+		if (source.startsWith(BY, index)) {
+			return index + BY.length();
+		}
+
+		if (!isUpperCase(source, index)) {
+			return -1;
+		}
+
+		int by = source.indexOf(BY, index + Character.charCount(source.codePointAt(index)));
+
+		return by == -1 ? -1 : by + BY.length();
+	}
+}
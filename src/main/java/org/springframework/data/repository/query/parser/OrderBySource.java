@@ -21,8 +21,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
@@ -43,8 +41,8 @@ class OrderBySource {
 
 	static OrderBySource EMPTY = new OrderBySource("");
 
-	private static final String BLOCK_SPLIT = "(?<=Asc|Desc)(?=\\p{Lu})";
-	private static final Pattern DIRECTION_SPLIT = Pattern.compile("(.+?)(Asc|Desc)?$");
+	private static final String ASC = "Asc";
+	private static final String DESC = "Desc";
 	private static final String INVALID_ORDER_SYNTAX = "Invalid order syntax for part %s!";
 	private static final Set<String> DIRECTION_KEYWORDS = new HashSet<>(Arrays.asList("Asc", "Desc"));
 
@@ -75,16 +73,16 @@ class OrderBySource {
 			return;
 		}
 
-		for (String part : clause.split(BLOCK_SPLIT)) {
+		for (String part : splitBlocks(clause)) {
 
-			Matcher matcher = DIRECTION_SPLIT.matcher(part);
-
-			if (!matcher.find()) {
+			if (part.isEmpty()) {
 				throw new IllegalArgumentException(String.format(INVALID_ORDER_SYNTAX, part));
 			}
 
-			String propertyString = matcher.group(1);
-			String directionString = matcher.group(2);
+			String directionString = part.length() > DESC.length() && part.endsWith(DESC) ? DESC
+					: part.length() > ASC.length() && part.endsWith(ASC) ? ASC : null;
+			String propertyString = directionString == null ? part
+					: part.substring(0, part.length() - directionString.length());
 
 			// No property, but only a direction keyword
 			if (DIRECTION_KEYWORDS.contains(propertyString) && directionString == null) {
@@ -95,6 +93,33 @@ class OrderBySource {
 		}
 	}
 
+	/**
+	 * Splits the given clause into blocks ending with a direction keyword, i.e. after each {@code Asc} or {@code Desc}
+	 * that is followed by an upper-case letter.
+	 *
+	 * @param clause must not be {@literal null}.
+	 * @return
+	 */
+	private static List<String> splitBlocks(String clause) {
+
+		List<String> blocks = new ArrayList<>();
+		int start = 0;
+
+		for (int i = 1; i < clause.length(); i++) {
+
+			boolean afterDirection = clause.startsWith(ASC, i - ASC.length()) || clause.startsWith(DESC, i - DESC.length());
+
+			if (afterDirection && MethodNameTokenizer.isUpperCase(clause, i)) {
+				blocks.add(clause.substring(start, i));
+				start = i;
+			}
+		}
+
+		blocks.add(clause.substring(start));
+
+		return blocks;
+	}
+
 	/**
 	 * Creates an {@link Order} instance from the given property source, direction and domain class. If the domain class
 	 * is given, we will use it for nested property traversal checks.
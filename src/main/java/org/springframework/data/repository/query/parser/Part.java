@@ -22,8 +22,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.util.Assert;
@@ -40,7 +38,8 @@ import org.springframework.util.StringUtils;
 @EqualsAndHashCode
 public class Part {
 
-	private static final Pattern IGNORE_CASE = Pattern.compile("Ignor(ing|e)Case");
+	private static final String IGNORE_CASE = "IgnoreCase";
+	private static final String IGNORING_CASE = "IgnoringCase";
 
 	private final PropertyPath propertyPath;
 	private final Part.Type type;
@@ -83,14 +82,14 @@ public class Part {
 
 	private String detectAndSetIgnoreCase(String part) {
 
-		Matcher matcher = IGNORE_CASE.matcher(part);
-		String result = part;
+		String result = MethodNameTokenizer.removeFirst(part, IGNORE_CASE, IGNORING_CASE);
 
-		if (matcher.find()) {
-			ignoreCase = IgnoreCaseType.ALWAYS;
-			result = part.substring(0, matcher.start()) + part.substring(matcher.end(), part.length());
+		if (result == null) {
+			return part;
 		}
 
+		ignoreCase = IgnoreCaseType.ALWAYS;
+
 		return result;
 	}
 
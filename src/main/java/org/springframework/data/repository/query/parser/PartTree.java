@@ -16,21 +16,23 @@
 package org.springframework.data.repository.query.parser;
 
 import lombok.Getter;
+import lombok.Value;
 
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -47,22 +49,10 @@ import org.springframework.util.StringUtils;
 public class PartTree implements Streamable<OrPart> {
 
 	/*
-	 * We look for a pattern of: keyword followed by
-	 *
-	 *  an upper-case letter that has a lower-case variant \p{Lu}
-	 * OR
-	 *  any other letter NOT in the BASIC_LATIN Uni-code Block \\P{InBASIC_LATIN} (like Chinese, Korean, Japanese, etc.).
-	 *
-	 * @see <a href="http://www.regular-expressions.info/unicode.html">http://www.regular-expressions.info/unicode.html</a>
-	 * @see <a href="http://docs.oracle.com/javase/7/docs/api/java/util/regex/Pattern.html#ubc">Pattern</a>
+	 * Parsed subjects and predicates are immutable and thus shared between all PartTree instances created for the same
+	 * method name and domain class.
 	 */
-	private static final String KEYWORD_TEMPLATE = "(%s)(?=(\\p{Lu}|\\P{InBASIC_LATIN}))";
-	private static final String QUERY_PATTERN = "find|read|get|query|stream";
-	private static final String COUNT_PATTERN = "count";
-	private static final String EXISTS_PATTERN = "exists";
-	private static final String DELETE_PATTERN = "delete|remove";
-	private static final Pattern PREFIX_TEMPLATE = Pattern.compile( //
-			"^(" + QUERY_PATTERN + "|" + COUNT_PATTERN + "|" + EXISTS_PATTERN + "|" + DELETE_PATTERN + ")((\\p{Lu}.*?))??By");
+	private static final Map<Key, Pair<Subject, Predicate>> CACHE = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * The subject, for example "findDistinctUserByNameOrderByAge" would have the subject "DistinctUser".
@@ -86,15 +76,29 @@ public class PartTree implements Streamable<OrPart> {
 		Assert.notNull(source, "Source must not be null");
 		Assert.notNull(domainClass, "Domain class must not be null");
 
-		Matcher matcher = PREFIX_TEMPLATE.matcher(source);
+		Pair<Subject, Predicate> parsed = CACHE.computeIfAbsent(Key.of(source, domainClass), PartTree::parse);
+
+		this.subject = parsed.getFirst();
+		this.predicate = parsed.getSecond();
+	}
+
+	/**
+	 * Parses the method name held by the given {@link Key} into its {@link Subject} and {@link Predicate}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return
+	 */
+	private static Pair<Subject, Predicate> parse(Key key) {
+
+		String source = key.getSource();
+		String subject = MethodNameTokenizer.detectSubject(source);
 
-		if (!matcher.find()) {
-			this.subject = new Subject(Optional.empty());
-			this.predicate = new Predicate(source, domainClass);
-		} else {
-			this.subject = new Subject(Optional.of(matcher.group(0)));
-			this.predicate = new Predicate(source.substring(matcher.group().length()), domainClass);
+		if (subject == null) {
+			return Pair.of(new Subject(Optional.empty()), new Predicate(source, key.getDomainClass()));
 		}
+
+		return Pair.of(new Subject(Optional.of(subject)),
+				new Predicate(source.substring(subject.length()), key.getDomainClass()));
 	}
 
 	/*
@@ -219,11 +223,10 @@ public class PartTree implements Streamable<OrPart> {
 	 * @param text the text to split
 	 * @param keyword the keyword to split around
 	 * @return an array of split items
+	 * @see MethodNameTokenizer#split(String, String)
 	 */
 	private static String[] split(String text, String keyword) {
-
-		Pattern pattern = Pattern.compile(String.format(KEYWORD_TEMPLATE, keyword));
-		return pattern.split(text);
+		return MethodNameTokenizer.split(text, keyword);
 	}
 
 	/**
@@ -273,12 +276,10 @@ public class PartTree implements Streamable<OrPart> {
 	private static class Subject {
 
 		private static final String DISTINCT = "Distinct";
-		private static final Pattern COUNT_BY_TEMPLATE = Pattern.compile("^count(\\p{Lu}.*?)??By");
-		private static final Pattern EXISTS_BY_TEMPLATE = Pattern.compile("^(" + EXISTS_PATTERN + ")(\\p{Lu}.*?)??By");
-		private static final Pattern DELETE_BY_TEMPLATE = Pattern.compile("^(" + DELETE_PATTERN + ")(\\p{Lu}.*?)??By");
-		private static final String LIMITING_QUERY_PATTERN = "(First|Top)(\\d*)?";
-		private static final Pattern LIMITED_QUERY_TEMPLATE = Pattern
-				.compile("^(" + QUERY_PATTERN + ")(" + DISTINCT + ")?" + LIMITING_QUERY_PATTERN + "(\\p{Lu}.*?)??By");
+		private static final String COUNT = "count";
+		private static final String EXISTS = "exists";
+		private static final String DELETE = "delete";
+		private static final String REMOVE = "remove";
 
 		private final boolean distinct;
 		private final boolean count;
@@ -289,9 +290,9 @@ public class PartTree implements Streamable<OrPart> {
 		public Subject(Optional<String> subject) {
 
 			this.distinct = subject.map(it -> it.contains(DISTINCT)).orElse(false);
-			this.count = matches(subject, COUNT_BY_TEMPLATE);
-			this.exists = matches(subject, EXISTS_BY_TEMPLATE);
-			this.delete = matches(subject, DELETE_BY_TEMPLATE);
+			this.count = startsWith(subject, COUNT);
+			this.exists = startsWith(subject, EXISTS);
+			this.delete = startsWith(subject, DELETE) || startsWith(subject, REMOVE);
 			this.maxResults = returnMaxResultsIfFirstKSubjectOrNull(subject);
 		}
 
@@ -302,21 +303,11 @@ public class PartTree implements Streamable<OrPart> {
 		 */
 		private Optional<Integer> returnMaxResultsIfFirstKSubjectOrNull(Optional<String> subject) {
 
-			return subject.map(it -> {
-
-				Matcher grp = LIMITED_QUERY_TEMPLATE.matcher(it);
-
-				if (!grp.find()) {
-					return null;
-				}
-
-				return StringUtils.hasText(grp.group(4)) ? Integer.valueOf(grp.group(4)) : 1;
-			});
-
+			return subject.map(MethodNameTokenizer::detectMaxResults);
 		}
 
 		/**
-		 * Returns {@literal true} if {@link Subject} matches {@link #DELETE_BY_TEMPLATE}.
+		 * Returns {@literal true} if {@link Subject} starts with {@link #DELETE} or {@link #REMOVE}.
 		 *
 		 * @return
 		 * @since 1.8
@@ -330,7 +321,7 @@ public class PartTree implements Streamable<OrPart> {
 		}
 
 		/**
-		 * Returns {@literal true} if {@link Subject} matches {@link #EXISTS_BY_TEMPLATE}.
+		 * Returns {@literal true} if {@link Subject} starts with {@link #EXISTS}.
 		 *
 		 * @return
 		 * @since 1.13
@@ -347,8 +338,12 @@ public class PartTree implements Streamable<OrPart> {
 			return maxResults;
 		}
 
-		private boolean matches(Optional<String> subject, Pattern pattern) {
-			return subject.map(it -> pattern.matcher(it).find()).orElse(false);
+		/**
+		 * The subject was detected by {@link MethodNameTokenizer#detectSubject(String)} already, so checking the prefix is
+		 * sufficient.
+		 */
+		private static boolean startsWith(Optional<String> subject, String prefix) {
+			return subject.map(it -> it.startsWith(prefix)).orElse(false);
 		}
 	}
 
@@ -360,7 +355,8 @@ public class PartTree implements Streamable<OrPart> {
 	 */
 	private static class Predicate implements Streamable<OrPart> {
 
-		private static final Pattern ALL_IGNORE_CASE = Pattern.compile("AllIgnor(ing|e)Case");
+		private static final String ALL_IGNORE_CASE = "AllIgnoreCase";
+		private static final String ALL_IGNORING_CASE = "AllIgnoringCase";
 		private static final String ORDER_BY = "OrderBy";
 
 		private final List<OrPart> nodes;
@@ -386,14 +382,15 @@ public class PartTree implements Streamable<OrPart> {
 
 		private String detectAndSetAllIgnoreCase(String predicate) {
 
-			Matcher matcher = ALL_IGNORE_CASE.matcher(predicate);
+			String result = MethodNameTokenizer.removeFirst(predicate, ALL_IGNORE_CASE, ALL_IGNORING_CASE);
 
-			if (matcher.find()) {
-				alwaysIgnoreCase = true;
-				predicate = predicate.substring(0, matcher.start()) + predicate.substring(matcher.end(), predicate.length());
+			if (result == null) {
+				return predicate;
 			}
 
-			return predicate;
+			alwaysIgnoreCase = true;
+
+			return result;
 		}
 
 		/*
@@ -405,4 +402,14 @@ public class PartTree implements Streamable<OrPart> {
 			return nodes.iterator();
 		}
 	}
+
+	/**
+	 * Cache key for parsed method names.
+	 */
+	@Value(staticConstructor = "of")
+	private static class Key {
+
+		String source;
+		Class<?> domainClass;
+	}
 }
@@ -31,7 +31,6 @@ import java.util.Set;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link TypeInformation} for a plain {@link Class}.
@@ -48,10 +47,12 @@ public class ClassTypeInformation<S> extends TypeDiscoverer<S> {
 	public static final ClassTypeInformation<Map> MAP = new ClassTypeInformation(Map.class);
 	public static final ClassTypeInformation<Object> OBJECT = new ClassTypeInformation(Object.class);
 
-	private static final Map<Class<?>, ClassTypeInformation<?>> CACHE = new ConcurrentReferenceHashMap<>();
+	private static final Map<Class<?>, ClassTypeInformation<?>> PREDEFINED = new HashMap<>();
+	private static final TypeCache<ClassTypeInformation<?>> CACHE = TypeCache
+			.of(type -> PREDEFINED.containsKey(type) ? PREDEFINED.get(type) : new ClassTypeInformation<>(type));
 
 	static {
-		Arrays.asList(COLLECTION, LIST, SET, MAP, OBJECT).forEach(it -> CACHE.put(it.getType(), it));
+		Arrays.asList(COLLECTION, LIST, SET, MAP, OBJECT).forEach(it -> PREDEFINED.put(it.getType(), it));
 	}
 
 	private final Class<S> type;
@@ -67,7 +68,7 @@ public class ClassTypeInformation<S> extends TypeDiscoverer<S> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return (ClassTypeInformation<S>) CACHE.computeIfAbsent(type, it -> new ClassTypeInformation<>(type));
+		return (ClassTypeInformation<S>) CACHE.get(type);
 	}
 
 	/**
@@ -44,6 +44,8 @@ class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T>
 
 	private final ParameterizedType type;
 	private final Lazy<Boolean> resolved;
+	private volatile @Nullable List<TypeInformation<?>> typeArguments;
+	private int hashCode;
 
 	/**
 	 * Creates a new {@link ParameterizedTypeInformation} for the given {@link Type} and parent {@link TypeDiscoverer}.
@@ -102,13 +104,21 @@ class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T>
 	@Override
 	public List<TypeInformation<?>> getTypeArguments() {
 
+		List<TypeInformation<?>> typeArguments = this.typeArguments;
+
+		if (typeArguments != null) {
+			return typeArguments;
+		}
+
 		List<TypeInformation<?>> result = new ArrayList<>();
 
 		for (Type argument : type.getActualTypeArguments()) {
 			result.add(createInfo(argument));
 		}
 
-		return result;
+		this.typeArguments = Collections.unmodifiableList(result);
+
+		return this.typeArguments;
 	}
 
 	/*
@@ -166,7 +176,7 @@ class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T>
 	@Override
 	@SuppressWarnings("unchecked")
 	public TypeInformation<? extends T> specialize(ClassTypeInformation<?> type) {
-		return isResolvedCompletely() ? (TypeInformation<? extends T>) type : super.specialize(type);
+		return isResolved() ? (TypeInformation<? extends T>) type : super.specialize(type);
 	}
 
 	/*
@@ -199,7 +209,12 @@ class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T>
 	 */
 	@Override
 	public int hashCode() {
-		return isResolved() ? this.type.hashCode() : super.hashCode();
+
+		if (this.hashCode == 0) {
+			this.hashCode = isResolved() ? this.type.hashCode() : super.hashCode();
+		}
+
+		return this.hashCode;
 	}
 
 	/*
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Cache for metadata derived from a {@link Class}. Backed by a {@link ClassValue} so that lookups neither hash nor
+ * purge references, values for live types are never evicted and cached values are released together with the type's
+ * {@link ClassLoader}. Values are computed at most once per type and published safely, although the function may be
+ * invoked concurrently for the same type in which case only one of the results is retained.
+ * <p>
+ * A {@link ClassValue} keeps its values reachable for as long as the type they were computed for is. Values are
+ * instances of types loaded by the {@link ClassLoader} that loaded {@link TypeCache} (or one of its parents), so storing
+ * them for types of a parent {@link ClassLoader} (e.g. JDK types) would pin the former, for example a web application's
+ * {@link ClassLoader} (see JDK-8136353). Thus, only types loaded by the {@link ClassLoader} of {@link TypeCache} or one
+ * of its descendants are cached in the {@link ClassValue}. Values for all other types are kept in a
+ * {@link ConcurrentReferenceHashMap}.
+ *
+ * @author agent
+ * @since 2.1
+ */
+public final class TypeCache<T> {
+
+	private static final ClassLoader CLASS_LOADER = TypeCache.class.getClassLoader();
+
+	private final Function<Class<?>, ? extends T> function;
+	private final ClassValue<T> values;
+	private final Map<Class<?>, T> parentValues = new ConcurrentReferenceHashMap<>();
+
+	private TypeCache(Function<Class<?>, ? extends T> function) {
+
+		this.function = function;
+		this.values = new ClassValue<T>() {
+
+			@Override
+			protected T computeValue(Class<?> type) {
+				return TypeCache.this.computeValue(type);
+			}
+		};
+	}
+
+	/**
+	 * Creates a new {@link TypeCache} computing values using the given {@link Function}.
+	 *
+	 * @param function must not be {@literal null} and must not return {@literal null}.
+	 * @return
+	 */
+	public static <T> TypeCache<T> of(Function<Class<?>, ? extends T> function) {
+
+		Assert.notNull(function, "Function must not be null!");
+
+		return new TypeCache<>(function);
+	}
+
+	/**
+	 * Returns the value for the given type, computing it if necessary.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public T get(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return isClassValueSafe(type) //
+				? values.get(type) //
+				: parentValues.computeIfAbsent(type, this::computeValue);
+	}
+
+	/**
+	 * Removes the cached value for the given type so that it gets recomputed on the next lookup.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	public void evict(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (isClassValueSafe(type)) {
+			values.remove(type);
+		} else {
+			parentValues.remove(type);
+		}
+	}
+
+	private T computeValue(Class<?> type) {
+
+		T value = function.apply(type);
+
+		Assert.state(value != null, () -> String.format("Cached value for type %s must not be null!", type.getName()));
+
+		return value;
+	}
+
+	/**
+	 * Returns whether the given type was loaded by the {@link ClassLoader} of {@link TypeCache} or one of its
+	 * descendants, i.e. whether the type itself already pins that {@link ClassLoader}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isClassValueSafe(Class<?> type) {
+
+		if (CLASS_LOADER == null) {
+			return false;
+		}
+
+		ClassLoader classLoader = type.getClassLoader();
+
+		while (classLoader != null) {
+
+			if (classLoader == CLASS_LOADER) {
+				return true;
+			}
+
+			classLoader = classLoader.getParent();
+		}
+
+		return false;
+	}
+}
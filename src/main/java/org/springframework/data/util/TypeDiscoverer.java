@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
@@ -39,7 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.GenericTypeResolver;
@@ -76,6 +77,11 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	private final Type type;
 	private final Map<TypeVariable<?>, Type> typeVariableMap;
 	private final Map<String, Optional<TypeInformation<?>>> fieldTypes = new ConcurrentHashMap<>();
+	private final Map<Type, TypeInformation<?>> nestedTypes = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<TypeInformation<?>>> superTypes = new ConcurrentHashMap<>();
+	private final Map<ClassTypeInformation<?>, TypeInformation<?>> specializations = new ConcurrentHashMap<>();
+	private final Map<Method, TypeInformation<?>> returnTypes = new ConcurrentHashMap<>();
+	private final Map<Executable, List<TypeInformation<?>>> parameterTypes = new ConcurrentHashMap<>();
 	private final int hashCode;
 
 	private final Lazy<Class<S>> resolvedType;
@@ -111,12 +117,13 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	}
 
 	/**
-	 * Creates {@link TypeInformation} for the given {@link Type}.
+	 * Creates {@link TypeInformation} for the given {@link Type}. Instances created for generic types are kept so that
+	 * resolving the same {@link Type} again returns the very same instance, which makes equality checks and hash lookups
+	 * of the nested {@link TypeInformation} cheap.
 	 *
 	 * @param fieldType must not be {@literal null}.
 	 * @return
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected TypeInformation<?> createInfo(Type fieldType) {
 
 		Assert.notNull(fieldType, "Field type must not be null!");
@@ -129,6 +136,27 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 			return ClassTypeInformation.from((Class<?>) fieldType);
 		}
 
+		// Synthetic types are created on demand by specialize(…) and are not worth keeping
+		if (fieldType instanceof SyntheticParamterizedType) {
+			return doCreateInfo(fieldType);
+		}
+
+		TypeInformation<?> info = nestedTypes.get(fieldType);
+
+		if (info != null) {
+			return info;
+		}
+
+		// No computeIfAbsent(…) as creating the instance might recursively resolve other types through this instance
+		info = doCreateInfo(fieldType);
+		TypeInformation<?> existing = nestedTypes.putIfAbsent(fieldType, info);
+
+		return existing == null ? info : existing;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private TypeInformation<?> doCreateInfo(Type fieldType) {
+
 		if (fieldType instanceof ParameterizedType) {
 
 			ParameterizedType parameterizedType = (ParameterizedType) fieldType;
@@ -187,14 +215,7 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 
 		Assert.notNull(constructor, "Constructor must not be null!");
 
-		Type[] types = constructor.getGenericParameterTypes();
-		List<TypeInformation<?>> result = new ArrayList<>(types.length);
-
-		for (Type parameterType : types) {
-			result.add(createInfo(parameterType));
-		}
-
-		return result;
+		return getParameterTypes((Executable) constructor);
 	}
 
 	/*
@@ -407,7 +428,9 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	public TypeInformation<?> getReturnType(Method method) {
 
 		Assert.notNull(method, "Method must not be null!");
-		return createInfo(method.getGenericReturnType());
+
+		return getOrCompute(returnTypes, method, method.getDeclaringClass(),
+				it -> createInfo(it.getGenericReturnType()));
 	}
 
 	/*
@@ -418,9 +441,22 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 
 		Assert.notNull(method, "Method most not be null!");
 
-		return Streamable.of(method.getGenericParameterTypes()).stream()//
-				.map(this::createInfo)//
-				.collect(Collectors.toList());
+		return getParameterTypes((Executable) method);
+	}
+
+	private List<TypeInformation<?>> getParameterTypes(Executable executable) {
+
+		return getOrCompute(parameterTypes, executable, executable.getDeclaringClass(), it -> {
+
+			Type[] types = it.getGenericParameterTypes();
+			List<TypeInformation<?>> result = new ArrayList<>(types.length);
+
+			for (Type parameterType : types) {
+				result.add(createInfo(parameterType));
+			}
+
+			return Collections.unmodifiableList(result);
+		});
 	}
 
 	/*
@@ -440,6 +476,12 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 			return this;
 		}
 
+		return getOrCompute(superTypes, superType, superType, this::doGetSuperTypeInformation).orElse(null);
+	}
+
+	private Optional<TypeInformation<?>> doGetSuperTypeInformation(Class<?> superType) {
+
+		Class<?> rawType = getType();
 		List<Type> candidates = new ArrayList<>();
 
 		Type genericSuperclass = rawType.getGenericSuperclass();
@@ -453,16 +495,16 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 			TypeInformation<?> candidateInfo = createInfo(candidate);
 
 			if (superType.equals(candidateInfo.getType())) {
-				return candidateInfo;
+				return Optional.of(candidateInfo);
 			} else {
 				TypeInformation<?> nestedSuperType = candidateInfo.getSuperTypeInformation(superType);
 				if (nestedSuperType != null) {
-					return nestedSuperType;
+					return Optional.of(nestedSuperType);
 				}
 			}
 		}
 
-		return null;
+		return Optional.empty();
 	}
 
 	/*
@@ -496,8 +538,12 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 
 		List<TypeInformation<?>> arguments = getTypeArguments();
 
-		return (TypeInformation<? extends S>) (arguments.isEmpty() ? type
-				: createInfo(new SyntheticParamterizedType(type, arguments)));
+		if (arguments.isEmpty()) {
+			return (TypeInformation<? extends S>) type;
+		}
+
+		return (TypeInformation<? extends S>) getOrCompute(specializations, type, type.getType(),
+				it -> createInfo(new SyntheticParamterizedType(it, arguments)));
 	}
 
 	@Nullable
@@ -513,6 +559,37 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 		return createInfo(arguments[index]);
 	}
 
+	/**
+	 * Looks up the value for the given key from the given cache and computes and stores it if not present yet. Values
+	 * derived from a type that is not visible to the class loader of the current type are not cached to not keep those
+	 * types from being unloaded.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param keyType the type the key refers to, must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	private <K, V> V getOrCompute(Map<K, V> cache, K key, Class<?> keyType, Function<K, V> function) {
+
+		V value = cache.get(key);
+
+		if (value != null) {
+			return value;
+		}
+
+		value = function.apply(key);
+
+		if (!ClassUtils.isCacheSafe(keyType, getType().getClassLoader())) {
+			return value;
+		}
+
+		// No computeIfAbsent(…) as the computation might recursively use the cache
+		V existing = cache.putIfAbsent(key, value);
+
+		return existing == null ? value : existing;
+	}
+
 	private Class<?> getBaseType(Class<?>[] candidates) {
 
 		Class<S> type = getType();
@@ -32,6 +32,7 @@ import org.springframework.util.Assert;
 class TypeVariableTypeInformation<T> extends ParentTypeAwareTypeInformation<T> {
 
 	private final TypeVariable<?> variable;
+	private int hashCode;
 
 	/**
 	 * Creates a new {@link TypeVariableTypeInformation} for the given {@link TypeVariable} owning {@link Type} and parent
@@ -77,11 +78,11 @@ class TypeVariableTypeInformation<T> extends ParentTypeAwareTypeInformation<T> {
 	@Override
 	public int hashCode() {
 
-		int result = 17;
-
-		result += 31 * nullSafeHashCode(getType());
+		if (this.hashCode == 0) {
+			this.hashCode = 17 + 31 * nullSafeHashCode(getType());
+		}
 
-		return result;
+		return this.hashCode;
 	}
 
 	/*
@@ -17,7 +17,6 @@ package org.springframework.data.web;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
-import java.util.Map;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
@@ -26,6 +25,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.util.TypeCache;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -33,7 +33,6 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
@@ -51,7 +50,8 @@ public class ProjectingJackson2HttpMessageConverter extends MappingJackson2HttpM
 		implements BeanClassLoaderAware, BeanFactoryAware {
 
 	private final SpelAwareProxyProjectionFactory projectionFactory;
-	private final Map<Class<?>, Boolean> supportedTypesCache = new ConcurrentReferenceHashMap<>();
+	private final TypeCache<Boolean> supportedTypesCache = TypeCache
+			.of(type -> type.isInterface() && AnnotationUtils.findAnnotation(type, ProjectedPayload.class) != null);
 
 	/**
 	 * Creates a new {@link ProjectingJackson2HttpMessageConverter} using a default {@link ObjectMapper}.
@@ -121,16 +121,7 @@ public class ProjectingJackson2HttpMessageConverter extends MappingJackson2HttpM
 
 		ResolvableType owner = contextClass == null ? null : ResolvableType.forClass(contextClass);
 		Class<?> rawType = ResolvableType.forType(type, owner).resolve(Object.class);
-		Boolean result = supportedTypesCache.get(rawType);
-
-		if (result != null) {
-			return result;
-		}
-
-		result = rawType.isInterface() && AnnotationUtils.findAnnotation(rawType, ProjectedPayload.class) != null;
-		supportedTypesCache.put(rawType, result);
-
-		return result;
+		return supportedTypesCache.get(rawType);
 	}
 
 	/*
@@ -16,12 +16,12 @@
 package org.springframework.data.web;
 
 import java.io.IOException;
-import java.util.Map;
 
 import javax.annotation.Nullable;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.util.TypeCache;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
@@ -29,7 +29,6 @@ import org.springframework.http.converter.AbstractHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.xmlbeam.XBProjector;
 
 /**
@@ -43,7 +42,8 @@ import org.xmlbeam.XBProjector;
 public class XmlBeamHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
 
 	private final XBProjector projectionFactory;
-	private final Map<Class<?>, Boolean> supportedTypesCache = new ConcurrentReferenceHashMap<>();
+	private final TypeCache<Boolean> supportedTypesCache = TypeCache
+			.of(type -> type.isInterface() && AnnotationUtils.findAnnotation(type, ProjectedPayload.class) != null);
 
 	/**
 	 * Creates a new {@link XmlBeamHttpMessageConverter}.
@@ -63,17 +63,7 @@ public class XmlBeamHttpMessageConverter extends AbstractHttpMessageConverter<Ob
 	protected boolean supports(Class<?> type) {
 
 		Class<?> rawType = ResolvableType.forType(type).resolve(Object.class);
-		Boolean result = supportedTypesCache.get(rawType);
-
-		if (result != null) {
-			return result;
-		}
-
-		result = rawType.isInterface() && AnnotationUtils.findAnnotation(rawType, ProjectedPayload.class) != null;
-
-		supportedTypesCache.put(rawType, result);
-
-		return result;
+		return supportedTypesCache.get(rawType);
 	}
 
 	/*
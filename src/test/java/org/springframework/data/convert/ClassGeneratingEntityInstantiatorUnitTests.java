@@ -20,8 +20,14 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.util.ClassTypeInformation.from;
 
 import java.lang.reflect.Constructor;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
@@ -37,6 +43,7 @@ import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -58,6 +65,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiatesSimpleObjectCorrectly() {
 
 		doReturn(Object.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(Object.class)).when(entity).getTypeInformation();
 
 		this.instance.createInstance(entity, provider);
 	}
@@ -66,6 +74,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiatesArrayCorrectly() {
 
 		doReturn(String[][].class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(String[][].class)).when(entity).getTypeInformation();
 
 		this.instance.createInstance(entity, provider);
 	}
@@ -76,6 +85,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 		PreferredConstructor<Foo, P> constructor = PreferredConstructorDiscoverer.discover(Foo.class);
 
 		doReturn(Foo.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(Foo.class)).when(entity).getTypeInformation();
 		doReturn(constructor).when(entity).getPersistenceConstructor();
 
 		assertThat(instance.createInstance(entity, provider)).isInstanceOf(Foo.class);
@@ -89,6 +99,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void throwsExceptionOnBeanInstantiationException() {
 
 		doReturn(PersistentEntity.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(PersistentEntity.class)).when(entity).getTypeInformation();
 
 		this.instance.createInstance(entity, provider);
 	}
@@ -181,10 +192,126 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 		assertThat(reference.sample.name).isEqualTo("FOO");
 	}
 
+	@Test
+	public void createsInstancesForAllRowsOfColumnarValueSource() {
+
+		PersistentEntity<ObjCtor2ParamStringString, P> entity = new BasicPersistentEntity<>(
+				from(ObjCtor2ParamStringString.class));
+		BatchInstantiationPlan<P> plan = BatchInstantiationPlan.forColumnNames(entity, Arrays.asList("param2", "param1"));
+
+		List<ObjCtor2ParamStringString> instances = instance.createInstances(entity, plan,
+				columns(new Object[] { "b1", "b2", "b3" }, new Object[] { "a1", "a2", "a3" }));
+
+		assertThat(instances).hasSize(3);
+		assertThat(instances.stream().map(it -> it.param1)).containsExactly("a1", "a2", "a3");
+		assertThat(instances.stream().map(it -> it.param2)).containsExactly("b1", "b2", "b3");
+		verifyZeroInteractions(provider);
+	}
+
+	@Test
+	public void handsNullToParametersNotBackedByColumn() {
+
+		PersistentEntity<ObjCtor2ParamStringString, P> entity = new BasicPersistentEntity<>(
+				from(ObjCtor2ParamStringString.class));
+		BatchInstantiationPlan<P> plan = BatchInstantiationPlan.forColumnNames(entity, Collections.singletonList("param1"));
+
+		List<ObjCtor2ParamStringString> instances = instance.createInstances(entity, plan,
+				columns(new Object[] { "a1" }));
+
+		assertThat(instances).hasSize(1);
+		assertThat(instances.get(0).param1).isEqualTo("a1");
+		assertThat(instances.get(0).param2).isNull();
+	}
+
+	@Test
+	public void capturesRowArgumentsOnBatchInstantiationException() {
+
+		PersistentEntity<Sample, P> entity = new BasicPersistentEntity<>(from(Sample.class));
+		BatchInstantiationPlan<P> plan = BatchInstantiationPlan.forColumnNames(entity, Arrays.asList("id", "name"));
+
+		try {
+
+			instance.createInstances(entity, plan, columns(new Object[] { 1L, "FOO" }, new Object[] { "first", "second" }));
+			fail("Expected MappingInstantiationException!");
+
+		} catch (MappingInstantiationException o_O) {
+			assertThat(o_O.getConstructorArguments()).containsExactly("FOO", "second");
+		}
+	}
+
+	@Test
+	public void rejectsColumnNamePlanForInnerClass() {
+
+		PersistentEntity<Inner, P> entity = new BasicPersistentEntity<>(from(Inner.class));
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> BatchInstantiationPlan.forColumnNames(entity, Collections.emptyList())) //
+				.withMessageContaining(Inner.class.getName());
+	}
+
+	@Test
+	public void createsInnerClassInstancesWithEnclosingInstanceBoundToColumn() {
+
+		PersistentEntity<Inner, P> entity = new BasicPersistentEntity<>(from(Inner.class));
+		BatchInstantiationPlan<P> plan = BatchInstantiationPlan.of(entity, it -> 0);
+		Outer outer = new Outer();
+
+		List<Inner> instances = instance.createInstances(entity, plan, columns(new Object[] { outer, outer }));
+
+		assertThat(instances).hasSize(2);
+
+		ReflectionUtils.doWithFields(Inner.class, field -> {
+			if (field.isSynthetic() && field.getName().startsWith("this$")) {
+				ReflectionUtils.makeAccessible(field);
+				instances.forEach(it -> assertThat(ReflectionUtils.getField(field, it)).isSameAs(outer));
+			}
+		});
+	}
+
+	@Test
+	public void rejectsPlanForDifferentEntity() {
+
+		PersistentEntity<Sample, P> entity = new BasicPersistentEntity<>(from(Sample.class));
+		PersistentEntity<ObjCtor2ParamStringString, P> other = new BasicPersistentEntity<>(
+				from(ObjCtor2ParamStringString.class));
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> instance.createInstances(entity,
+						BatchInstantiationPlan.forColumnNames(other, Collections.emptyList()), columns()));
+	}
+
+	@Test
+	public void rejectsNullPlan() {
+
+		PersistentEntity<Sample, P> entity = new BasicPersistentEntity<>(from(Sample.class));
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> instance.createInstances(entity, null, columns()));
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> ReflectionEntityInstantiator.INSTANCE.createInstances(entity, null, columns()));
+	}
+
+	private static ColumnarValueSource columns(Object[]... columns) {
+
+		return new ColumnarValueSource() {
+
+			@Override
+			public int getRowCount() {
+				return columns.length == 0 ? 0 : columns[0].length;
+			}
+
+			@Override
+			public Object getValue(int row, int column) {
+				return columns[column][row];
+			}
+		};
+	}
+
 	@Test // DATACMNS-578, DATACMNS-1126
 	public void instantiateObjCtorDefault() {
 
 		doReturn(ObjCtorDefault.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjCtorDefault.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjCtorDefault.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -196,6 +323,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjCtorNoArgs() {
 
 		doReturn(ObjCtorNoArgs.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjCtorNoArgs.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjCtorNoArgs.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -212,6 +340,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjCtor1ParamString() {
 
 		doReturn(ObjCtor1ParamString.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjCtor1ParamString.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjCtor1ParamString.class))//
 				.when(entity).getPersistenceConstructor();
 		doReturn("FOO").when(provider).getParameterValue(any());
@@ -230,6 +359,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjCtor2ParamStringString() {
 
 		doReturn(ObjCtor2ParamStringString.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjCtor2ParamStringString.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjCtor2ParamStringString.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -250,6 +380,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjectCtor1ParamInt() {
 
 		doReturn(ObjectCtor1ParamInt.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjectCtor1ParamInt.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjectCtor1ParamInt.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -268,6 +399,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjectCtor1ParamIntWithoutValue() {
 
 		doReturn(ObjectCtor1ParamInt.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjectCtor1ParamInt.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjectCtor1ParamInt.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -280,6 +412,7 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 	public void instantiateObjectCtor7ParamsString5IntsString() {
 
 		doReturn(ObjectCtor7ParamsString5IntsString.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjectCtor7ParamsString5IntsString.class)).when(entity).getTypeInformation();
 		doReturn(PreferredConstructorDiscoverer.discover(ObjectCtor7ParamsString5IntsString.class))//
 				.when(entity).getPersistenceConstructor();
 
@@ -303,6 +436,40 @@ public class ClassGeneratingEntityInstantiatorUnitTests<P extends PersistentProp
 		});
 	}
 
+	@Test
+	public void registersSingleInstantiatorPerTypeOnConcurrentAccess() throws Exception {
+
+		doReturn(ObjCtorNoArgs.class).when(entity).getType();
+		doReturn(ClassTypeInformation.from(ObjCtorNoArgs.class)).when(entity).getTypeInformation();
+		doReturn(PreferredConstructorDiscoverer.discover(ObjCtorNoArgs.class))//
+				.when(entity).getPersistenceConstructor();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<Object>> results = executor
+					.invokeAll(Collections.nCopies(16, (Callable<Object>) () -> this.instance.createInstance(entity, provider)));
+
+			for (Future<Object> result : results) {
+				assertThat(result.get()).isInstanceOf(ObjCtorNoArgs.class);
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Generation doesn't lock so that threads racing for the same type might all generate the class
+		long generatedClasses = this.instance.getGeneratedClassCount();
+
+		assertThat(generatedClasses).isBetween(1L, 4L);
+		assertThat(this.instance.getClassGenerationTime()).isGreaterThan(Duration.ZERO);
+
+		this.instance.createInstance(entity, provider);
+
+		assertThat(this.instance.getGeneratedClassCount()).isEqualTo(generatedClasses);
+	}
+
 	static class Foo {
 
 		Foo(String foo) {
@@ -199,6 +199,21 @@ public class CustomConversionsUnitTests {
 		return factory.getProxy().getClass();
 	}
 
+	@Test
+	public void picksFirstRegisteredConverterAcrossTypeHierarchy() {
+
+		CustomConversions interfaceFirst = new CustomConversions(StoreConversions.NONE,
+				Arrays.asList(ComparableToDateConverter.INSTANCE, NumberToStringConverter.INSTANCE));
+		CustomConversions superclassFirst = new CustomConversions(StoreConversions.NONE,
+				Arrays.asList(NumberToStringConverter.INSTANCE, ComparableToDateConverter.INSTANCE));
+
+		assertThat(interfaceFirst.getCustomWriteTarget(Long.class)).hasValue(Date.class);
+		assertThat(interfaceFirst.getCustomWriteTarget(Long.class, String.class)).hasValue(String.class);
+		assertThat(superclassFirst.getCustomWriteTarget(Long.class)).hasValue(String.class);
+		assertThat(superclassFirst.getCustomWriteTarget(Long.class, Date.class)).hasValue(Date.class);
+		assertThat(superclassFirst.getCustomWriteTarget(Locale.class)).isNotPresent();
+	}
+
 	enum FormatToStringConverter implements Converter<Format, String> {
 
 		INSTANCE;
@@ -226,6 +241,15 @@ public class CustomConversionsUnitTests {
 		}
 	}
 
+	enum ComparableToDateConverter implements Converter<Comparable<?>, Date> {
+
+		INSTANCE;
+
+		public Date convert(Comparable<?> source) {
+			return new Date(0);
+		}
+	}
+
 	enum StringToNumberConverter implements Converter<String, Number> {
 
 		INSTANCE;
@@ -54,7 +54,7 @@ public class DefaultTypeMapperUnitTests {
 		this.typeMapper = new DefaultTypeMapper<>(accessor, Collections.singletonList(mapper));
 		this.source = Collections.singletonMap("key", ALIAS.toString());
 
-		doReturn(ALIAS).when(accessor).readAliasFrom(source);
+		doReturn(ALIAS.getValue()).when(accessor).readRawAliasFrom(source);
 		doReturn(STRING_TYPE_INFO).when(mapper).resolveTypeFrom(ALIAS);
 	}
 
@@ -78,6 +78,65 @@ public class DefaultTypeMapperUnitTests {
 		assertThat(this.typeMapper.getAliasFor(STRING_TYPE_INFO)).isEqualTo(alias);
 	}
 
+	@Test
+	public void resolvesTypeFromRawAliasValue() {
+
+		TypeInformation<?> information = typeMapper.readType(source);
+
+		assertThat(information).isEqualTo(STRING_TYPE_INFO);
+		verify(accessor, never()).readAliasFrom(source);
+	}
+
+	@Test
+	public void resolvesTypeForAbsentAlias() {
+
+		Map<String, String> source = Collections.emptyMap();
+
+		assertThat(typeMapper.readType(source)).isNull();
+		assertThat(typeMapper.readType(source)).isNull();
+
+		verify(mapper, times(1)).resolveTypeFrom(Alias.NONE);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readsRawAliasValueFromAliasByDefault() {
+
+		TypeAliasAccessor<Map<String, String>> accessor = mock(TypeAliasAccessor.class, CALLS_REAL_METHODS);
+		doReturn(ALIAS).when(accessor).readAliasFrom(source);
+
+		assertThat(accessor.readRawAliasFrom(source)).isEqualTo(String.class.getName());
+	}
+
+	@Test
+	public void cachesTypeAliasForWrites() {
+
+		Alias alias = Alias.of("alias");
+		doReturn(alias).when(mapper).createAliasFor(STRING_TYPE_INFO);
+
+		Map<String, String> sink = Collections.emptyMap();
+
+		typeMapper.writeType(String.class, sink);
+		typeMapper.writeType(String.class, sink);
+
+		verify(mapper, times(1)).createAliasFor(STRING_TYPE_INFO);
+		verify(accessor, times(2)).writeTypeTo(sink, "alias");
+	}
+
+	@Test
+	public void cachesAbsenceOfTypeAlias() {
+
+		doReturn(Alias.NONE).when(mapper).createAliasFor(STRING_TYPE_INFO);
+
+		Map<String, String> sink = Collections.emptyMap();
+
+		typeMapper.writeType(String.class, sink);
+		typeMapper.writeType(String.class, sink);
+
+		verify(mapper, times(1)).createAliasFor(STRING_TYPE_INFO);
+		verify(accessor, never()).writeTypeTo(any(), any());
+	}
+
 	@Test // DATACMNS-783
 	public void specializesRawSourceTypeUsingGenericContext() {
 
@@ -85,7 +144,7 @@ public class DefaultTypeMapperUnitTests {
 		TypeInformation<?> propertyType = root.getProperty("abstractBar");
 		TypeInformation<?> barType = ClassTypeInformation.from(Bar.class);
 
-		doReturn(Alias.of(barType)).when(accessor).readAliasFrom(source);
+		doReturn(barType).when(accessor).readRawAliasFrom(source);
 		doReturn(barType).when(mapper).resolveTypeFrom(Alias.of(barType));
 
 		TypeInformation<?> result = typeMapper.readType(source, propertyType);
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.CustomConversions.StoreConversions;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+
+/**
+ * Unit tests for {@link EntityMappingPlan}.
+ *
+ * @author agent
+ */
+public class EntityMappingPlanUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+	DefaultConversionService conversionService = new DefaultConversionService();
+
+	CustomConversions conversions;
+	EntityMappingPlan<Object, SamplePersistentProperty> plan;
+
+	@Before
+	public void setUp() {
+
+		conversions = new CustomConversions(StoreConversions.NONE,
+				Collections.singletonList(LocaleToStringConverter.INSTANCE));
+		conversions.registerConvertersIn(conversionService);
+
+		plan = EntityMappingPlan.of(context.getRequiredPersistentEntity(Person.class), conversions, conversionService);
+	}
+
+	@Test
+	public void readsConstructorArgumentsAndPropertiesConvertingValuesIfNecessary() {
+
+		Map<String, Object> map = new HashMap<>();
+		map.put("name", "Dave");
+		map.put("age", "42");
+		map.put("locale", "de_DE");
+
+		Object result = plan.read(KeyValueDocument.of(map));
+
+		assertThat(result).isInstanceOfSatisfying(Person.class, it -> {
+			assertThat(it.name).isEqualTo("Dave");
+			assertThat(it.age).isEqualTo(42);
+			assertThat(it.locale).isEqualTo(Locale.GERMANY);
+		});
+	}
+
+	@Test
+	public void skipsAbsentValuesOnRead() {
+
+		Object result = plan.read(KeyValueDocument.of(Collections.singletonMap("age", 42)));
+
+		assertThat(result).isInstanceOfSatisfying(Person.class, it -> {
+			assertThat(it.name).isNull();
+			assertThat(it.age).isEqualTo(42);
+			assertThat(it.locale).isNull();
+		});
+	}
+
+	@Test
+	public void writesPropertiesApplyingCustomWriteConversions() {
+
+		Person person = new Person("Dave", 42);
+		person.locale = Locale.GERMANY;
+
+		Map<String, Object> map = new HashMap<>();
+		plan.write(person, KeyValueDocument.of(map));
+
+		assertThat(map).containsEntry("name", "Dave") //
+				.containsEntry("age", 42) //
+				.containsEntry("locale", "de_DE");
+	}
+
+	@Test
+	public void doesNotWriteNullValues() {
+
+		Map<String, Object> map = new HashMap<>();
+		plan.write(new Person(null, 42), KeyValueDocument.of(map));
+
+		assertThat(map).containsOnlyKeys("age");
+	}
+
+	@Test
+	public void convertsValuesOfAlternatingSourceTypesOnRead() {
+
+		assertThat(plan.read(KeyValueDocument.of(Collections.singletonMap("age", "42")))) //
+				.isInstanceOfSatisfying(Person.class, it -> assertThat(it.age).isEqualTo(42));
+		assertThat(plan.read(KeyValueDocument.of(Collections.singletonMap("age", 43L)))) //
+				.isInstanceOfSatisfying(Person.class, it -> assertThat(it.age).isEqualTo(43));
+		assertThat(plan.read(KeyValueDocument.of(Collections.singletonMap("age", "44")))) //
+				.isInstanceOfSatisfying(Person.class, it -> assertThat(it.age).isEqualTo(44));
+	}
+
+	@Test
+	public void convertsElementsOfCollectionsOnRead() {
+
+		EntityMappingPlan<Object, SamplePersistentProperty> plan = EntityMappingPlan
+				.of(context.getRequiredPersistentEntity(Survey.class), conversions, conversionService);
+
+		Map<String, Object> map = new HashMap<>();
+		map.put("scores", Arrays.asList("1", "2"));
+		map.put("locales", Arrays.asList("de_DE", "en_US"));
+
+		assertThat(plan.read(KeyValueDocument.of(map))).isInstanceOfSatisfying(Survey.class, it -> {
+			assertThat(it.scores).containsExactly(1, 2);
+			assertThat(it.locales).containsExactly(Locale.GERMANY, Locale.US);
+		});
+	}
+
+	@Test
+	public void skipsNestedEntities() {
+
+		EntityMappingPlan<Object, SamplePersistentProperty> plan = EntityMappingPlan
+				.of(context.getRequiredPersistentEntity(Customer.class), conversions, conversionService);
+
+		Customer customer = new Customer();
+		customer.name = "Dave";
+		customer.address = new Address();
+
+		Map<String, Object> map = new HashMap<>();
+		plan.write(customer, KeyValueDocument.of(map));
+
+		assertThat(map).containsOnlyKeys("name");
+
+		map.put("address", new Address());
+
+		assertThat(plan.read(KeyValueDocument.of(map))).isInstanceOfSatisfying(Customer.class, it -> {
+			assertThat(it.name).isEqualTo("Dave");
+			assertThat(it.address).isNull();
+		});
+	}
+
+	@Test
+	public void rejectsNestedEntitiesBoundToConstructorArguments() {
+
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> EntityMappingPlan.of(context.getRequiredPersistentEntity(Order.class), conversions,
+						conversionService)) //
+				.withMessageContaining("address");
+	}
+
+	static class Person {
+
+		final String name;
+		final int age;
+		Locale locale;
+
+		Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	static class Survey {
+
+		List<Integer> scores;
+		List<Locale> locales;
+	}
+
+	static class Customer {
+
+		String name;
+		Address address;
+	}
+
+	static class Order {
+
+		final Address address;
+
+		Order(Address address) {
+			this.address = address;
+		}
+	}
+
+	static class Address {
+		String street;
+	}
+
+	enum LocaleToStringConverter implements Converter<Locale, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(Locale source) {
+			return source.toString();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
+import org.springframework.data.mapping.model.BasicPersistentEntity;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.data.mapping.model.PregeneratedClassIndex;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Unit tests for {@link PregeneratedClassWriter}.
+ *
+ * @author agent
+ */
+public class PregeneratedClassWriterUnitTests {
+
+	@Test
+	public void writesAccessorAndInstantiatorClasses() throws Exception {
+
+		SampleMappingContext context = new SampleMappingContext();
+		context.setInitialEntitySet(Collections.singleton(Person.class));
+		context.initialize();
+
+		File directory = Files.createTempDirectory("classes").toFile();
+
+		try {
+
+			List<File> files = new PregeneratedClassWriter().write(context, directory);
+
+			assertThat(files).hasSize(2);
+			assertThat(files).allMatch(File::isFile);
+			assertThat(files).extracting(File::getName).allMatch(it -> it.startsWith(Person.class.getSimpleName()));
+			assertThat(files).anySatisfy(it -> assertThat(it.getName()).contains("_Accessor_aot_"));
+			assertThat(files).anySatisfy(it -> assertThat(it.getName()).contains("_Instantiator_aot_"));
+
+			File index = new File(directory, PregeneratedClassIndex.INDEX_LOCATION);
+
+			assertThat(index).isFile();
+			assertThat(new String(Files.readAllBytes(index.toPath()), StandardCharsets.ISO_8859_1)) //
+					.contains("_Accessor_aot_") //
+					.contains("_Instantiator_aot_") //
+					.contains("=" + Person.class.getName());
+
+		} finally {
+			FileSystemUtils.deleteRecursively(directory);
+		}
+	}
+
+	@Test
+	public void generatesStableClassNamesAcrossMappingContexts() {
+
+		ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+		ClassGeneratingEntityInstantiator instantiator = new ClassGeneratingEntityInstantiator();
+
+		BasicPersistentEntity<Object, SamplePersistentProperty> first = new SampleMappingContext()
+				.getRequiredPersistentEntity(Person.class);
+		BasicPersistentEntity<Object, SamplePersistentProperty> second = new SampleMappingContext()
+				.getRequiredPersistentEntity(Person.class);
+
+		assertThat(factory.generateAccessorClass(first).get().getFirst())
+				.isEqualTo(factory.generateAccessorClass(second).get().getFirst());
+		assertThat(instantiator.generateInstantiatorClass(first).get().getFirst())
+				.isEqualTo(instantiator.generateInstantiatorClass(second).get().getFirst());
+	}
+
+	public static class Person {
+
+		private final String firstname;
+		private String lastname;
+
+		public Person(String firstname) {
+			this.firstname = firstname;
+		}
+	}
+}
@@ -18,9 +18,15 @@ package org.springframework.data.mapping;
 import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
@@ -131,6 +137,40 @@ public class SimpleTypeHolderUnitTests {
 		assertThat(holder.isSimpleType(ExtendedPerson.class)).isFalse();
 	}
 
+	@Test
+	public void considersSubtypesOfCustomTypesSimpleInCopiedHolder() {
+
+		SimpleTypeHolder holder = new SimpleTypeHolder(Collections.singleton(Person.class), false);
+		SimpleTypeHolder second = new SimpleTypeHolder(Collections.emptySet(), holder);
+
+		assertThat(holder.isSimpleType(ExtendedPerson.class)).isTrue();
+		assertThat(second.isSimpleType(ExtendedPerson.class)).isTrue();
+		assertThat(second.isSimpleType(SimpleTypeHolderUnitTests.class)).isFalse();
+	}
+
+	@Test
+	public void resolvesSimpleTypesConsistentlyForConcurrentLookups() throws Exception {
+
+		SimpleTypeHolder holder = new SimpleTypeHolder(Collections.singleton(Person.class), true);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Callable<Boolean>> lookups = new ArrayList<>();
+
+			for (int i = 0; i < 100; i++) {
+				lookups.add(() -> holder.isSimpleType(ExtendedPerson.class) && !holder.isSimpleType(SimpleTypeHolder.class));
+			}
+
+			for (Future<Boolean> result : executor.invokeAll(lookups)) {
+				assertThat(result.get()).isTrue();
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	enum SimpleEnum {
 
 		FOO;
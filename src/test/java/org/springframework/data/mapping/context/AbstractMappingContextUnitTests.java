@@ -21,10 +21,20 @@ import static org.mockito.Mockito.*;
 import groovy.lang.MetaClass;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -260,6 +270,102 @@ public class AbstractMappingContextUnitTests {
 		assertThat(context.getPersistentEntity(property)).isNull();
 	}
 
+	@Test
+	public void concurrentLookupsResolveSameFullyInitializedEntity() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Callable<BasicPersistentEntity<Object, SamplePersistentProperty>>> lookups = IntStream.range(0, 64) //
+					.<Callable<BasicPersistentEntity<Object, SamplePersistentProperty>>> mapToObj(
+							it -> () -> context.getRequiredPersistentEntity(Sample.class)) //
+					.collect(Collectors.toList());
+
+			List<Future<BasicPersistentEntity<Object, SamplePersistentProperty>>> results = executor.invokeAll(lookups);
+			BasicPersistentEntity<Object, SamplePersistentProperty> expected = context.getRequiredPersistentEntity(Sample.class);
+
+			for (Future<BasicPersistentEntity<Object, SamplePersistentProperty>> result : results) {
+
+				assertThat(result.get()).isSameAs(expected);
+				assertThat(result.get().getPersistentProperty("persons")).isNotNull();
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void looksUpKnownEntitiesWithoutBlockingOnEntityInCreation() throws Exception {
+
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		context = new SampleMappingContext() {
+			@Override
+			@SuppressWarnings("unchecked")
+			protected <S> BasicPersistentEntity<Object, SamplePersistentProperty> createPersistentEntity(
+					TypeInformation<S> typeInformation) {
+				return new BasicPersistentEntity<Object, SamplePersistentProperty>((TypeInformation<Object>) typeInformation) {
+					@Override
+					public void verify() {
+
+						super.verify();
+
+						if (Unsupported.class.equals(getType())) {
+
+							inCreation.countDown();
+
+							try {
+								release.await(10, TimeUnit.SECONDS);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}
+					}
+				};
+			}
+		};
+
+		BasicPersistentEntity<Object, SamplePersistentProperty> person = context.getRequiredPersistentEntity(Person.class);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			Future<?> creation = executor.submit(() -> context.getPersistentEntity(Unsupported.class));
+
+			assertThat(inCreation.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(context.getPersistentEntity(Person.class)).isSameAs(person);
+			assertThat(context.hasPersistentEntityFor(Unsupported.class)).isFalse();
+
+			release.countDown();
+			creation.get(10, TimeUnit.SECONDS);
+
+			assertThat(context.hasPersistentEntityFor(Unsupported.class)).isTrue();
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void initializesInitialEntitySetInParallel() {
+
+		context.setInitialEntitySet(new HashSet<>(Arrays.asList(Sample.class, Person.class, Extension.class, Outer.class)));
+		context.setParallelInitialization(true);
+		context.initialize();
+
+		assertHasEntityFor(Sample.class, context, true);
+		assertHasEntityFor(Person.class, context, true);
+		assertHasEntityFor(Extension.class, context, true);
+		assertHasEntityFor(Outer.class, context, true);
+
+		assertThat(context.getRequiredPersistentEntity(Sample.class).getPersistentProperty("persons")).isNotNull();
+		assertThat(context.getRequiredPersistentEntity(Extension.class).getRequiredPersistentProperty("foo").isIdProperty())
+				.isTrue();
+	}
+
 	private static void assertHasEntityFor(Class<?> type, SampleMappingContext context, boolean expected) {
 
 		boolean found = false;
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * Unit tests for {@link DefaultPersistentPropertyPathAccessor}.
+ *
+ * @author agent
+ */
+public class DefaultPersistentPropertyPathAccessorUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+
+	@Test
+	public void readsNestedPath() {
+
+		Customer customer = new Customer(new Address(new City("12345")));
+
+		assertThat(getPath("address.city.zip").getAccessor().getProperty(customer)).isEqualTo("12345");
+	}
+
+	@Test
+	public void returnsNullForNullIntermediate() {
+
+		Customer customer = new Customer(new Address(null));
+
+		assertThat(getPath("address.city.zip").getAccessor().getProperty(customer)).isNull();
+	}
+
+	@Test
+	public void writesNestedPath() {
+
+		Customer customer = new Customer(new Address(new City("12345")));
+
+		getPath("address.city.zip").getAccessor().setProperty(customer, "54321");
+
+		assertThat(customer.address.city.zip).isEqualTo("54321");
+	}
+
+	@Test
+	public void writesSingleSegmentPath() {
+
+		Customer customer = new Customer(null);
+		Address address = new Address(null);
+
+		getPath("address").getAccessor().setProperty(customer, address);
+
+		assertThat(customer.address).isSameAs(address);
+	}
+
+	@Test
+	public void rejectsWritingThroughNullIntermediate() {
+
+		Customer customer = new Customer(new Address(null));
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> getPath("address.city.zip").getAccessor().setProperty(customer, "54321"))
+				.withMessageContaining("city");
+	}
+
+	@Test
+	public void rejectsPathThroughCollection() {
+
+		assertThatExceptionOfType(MappingException.class) //
+				.isThrownBy(() -> getPath("addresses.city").getAccessor());
+	}
+
+	@Test
+	public void cachesAccessorPerPath() {
+
+		PersistentPropertyPath<SamplePersistentProperty> path = getPath("address.city.zip");
+
+		assertThat(path.getAccessor()).isSameAs(path.getAccessor());
+	}
+
+	private PersistentPropertyPath<SamplePersistentProperty> getPath(String path) {
+		return context.getPersistentPropertyPath(path, Customer.class);
+	}
+
+	static class Customer {
+
+		Address address;
+		List<Address> addresses;
+
+		Customer(Address address) {
+			this.address = address;
+		}
+	}
+
+	static class Address {
+
+		City city;
+
+		Address(City city) {
+			this.city = city;
+		}
+	}
+
+	static class City {
+
+		String zip;
+
+		City(String zip) {
+			this.zip = zip;
+		}
+	}
+}
@@ -132,6 +132,39 @@ public class ClassGeneratingPropertyAccessorFactoryDatatypeTests {
 		});
 	}
 
+	@Test
+	public void shouldSetAndGetPropertyThroughPrimitiveAccessors() {
+
+		PersistentProperty<?> property = getProperty(bean, propertyName);
+		PersistentPropertyAccessor accessor = getPersistentPropertyAccessor(bean);
+
+		if (value instanceof Integer) {
+
+			accessor.setInt(property, (Integer) value);
+			assertThat(accessor.getInt(property)).isEqualTo(value);
+
+		} else if (value instanceof Long) {
+
+			accessor.setLong(property, (Long) value);
+			assertThat(accessor.getLong(property)).isEqualTo(value);
+
+		} else if (value instanceof Double) {
+
+			accessor.setDouble(property, (Double) value);
+			assertThat(accessor.getDouble(property)).isEqualTo(value);
+
+		} else if (value instanceof Boolean) {
+
+			accessor.setBoolean(property, (Boolean) value);
+			assertThat(accessor.getBoolean(property)).isEqualTo(value);
+
+		} else {
+			return;
+		}
+
+		assertThat(accessor.getProperty(property)).isEqualTo(value);
+	}
+
 	@Test // DATACMNS-809
 	public void shouldUseClassPropertyAccessorFactory() throws Exception {
 
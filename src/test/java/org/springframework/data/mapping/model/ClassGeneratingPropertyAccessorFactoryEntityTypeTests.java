@@ -18,6 +18,12 @@ package org.springframework.data.mapping.model;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
@@ -53,6 +59,41 @@ public class ClassGeneratingPropertyAccessorFactoryEntityTypeTests {
 		assertThat(getEntityInformation(Person.class).getId(jonDoe)).isEqualTo(jonDoe.name);
 	}
 
+	@Test
+	public void generatesAccessorClassOncePerType() {
+
+		ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+		PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+		factory.getPropertyAccessor(entity, new Person("JonDoe"));
+		factory.getPropertyAccessor(entity, new Person("JaneDoe"));
+
+		assertThat(factory.getGeneratedClassCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void createsAccessorsForTypeRequestedConcurrently() throws Exception {
+
+		ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+		PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+		SamplePersistentProperty property = entity.getRequiredIdProperty();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<Object>> results = executor.invokeAll(Collections.nCopies(16,
+					(Callable<Object>) () -> factory.getPropertyAccessor(entity, new Person("JonDoe")).getProperty(property)));
+
+			for (Future<Object> result : results) {
+				assertThat(result.get()).isEqualTo("JonDoe");
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private EntityInformation<Object, Serializable> getEntityInformation(Class<?> type) {
 
 		PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext.getRequiredPersistentEntity(type);
@@ -18,8 +18,12 @@ package org.springframework.data.mapping.model;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.SampleMappingContext;
 import org.springframework.data.mapping.context.SamplePersistentProperty;
@@ -107,6 +111,135 @@ public class ConvertingPropertyAccessorUnitTests {
 		});
 	}
 
+	@Test
+	public void readsPropertyAsPrimitiveConvertingIfNecessary() {
+
+		Entity entity = new Entity();
+		entity.id = 1L;
+
+		assertThat(getAccessor(entity, CONVERSION_SERVICE).getInt(getIdProperty())).isEqualTo(1);
+		assertThat(getAccessor(entity, CONVERSION_SERVICE).getLong(getIdProperty())).isEqualTo(1L);
+	}
+
+	@Test
+	public void convertsPrimitiveValueOnSetIfTypesDontMatch() {
+
+		Entity entity = new Entity();
+
+		getAccessor(entity, CONVERSION_SERVICE).setInt(getIdProperty(), 1);
+
+		assertThat(entity.id).isEqualTo(1L);
+	}
+
+	@Test
+	public void readsAndWritesPrimitivePropertyWithoutConversion() {
+
+		Entity entity = new Entity();
+		ConversionService conversionService = mock(ConversionService.class);
+		SamplePersistentProperty property = getProperty("count");
+
+		ConvertingPropertyAccessor accessor = getAccessor(entity, conversionService);
+		accessor.setInt(property, 42);
+
+		assertThat(entity.count).isEqualTo(42);
+		assertThat(accessor.getInt(property)).isEqualTo(42);
+		verifyZeroInteractions(conversionService);
+	}
+
+	@Test
+	public void rejectsNullValueForPrimitiveRead() {
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> getAccessor(new Entity(), CONVERSION_SERVICE).getLong(getIdProperty())) //
+				.withMessageContaining("id");
+	}
+
+	@Test
+	public void convertsValuesOfChangingSourceTypesOnSet() {
+
+		Entity entity = new Entity();
+		ConvertingPropertyAccessor accessor = getAccessor(entity, CONVERSION_SERVICE);
+		SamplePersistentProperty property = getIdProperty();
+
+		accessor.setProperty(property, "1");
+		assertThat(entity.id).isEqualTo(1L);
+
+		accessor.setProperty(property, 2);
+		assertThat(entity.id).isEqualTo(2L);
+
+		accessor.setProperty(property, 3L);
+		assertThat(entity.id).isEqualTo(3L);
+
+		accessor.setProperty(property, "4");
+		assertThat(entity.id).isEqualTo(4L);
+	}
+
+	@Test
+	public void handsTypeDescriptorsToConversionServiceOnSet() {
+
+		Entity entity = new Entity();
+		ConversionService conversionService = mock(ConversionService.class);
+
+		doReturn(1L).when(conversionService).convert(eq("1"), any(TypeDescriptor.class), any(TypeDescriptor.class));
+
+		getAccessor(entity, conversionService).setProperty(getIdProperty(), "1");
+
+		assertThat(entity.id).isEqualTo(1L);
+		verify(conversionService).convert("1", TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Long.class));
+	}
+
+	@Test
+	public void reusesConversionsForAlternatingSourceTypesOnSet() {
+
+		Entity entity = new Entity();
+		ConversionService conversionService = mock(ConversionService.class);
+		ConvertingPropertyAccessor accessor = getAccessor(entity, conversionService);
+		SamplePersistentProperty property = getIdProperty();
+
+		doReturn(1L).when(conversionService).convert(any(), any(TypeDescriptor.class), any(TypeDescriptor.class));
+
+		accessor.setProperty(property, new StringBuilder("1"));
+		accessor.setProperty(property, new StringBuffer("1"));
+		accessor.setProperty(property, new StringBuilder("1"));
+		accessor.setProperty(property, new StringBuffer("1"));
+
+		ArgumentCaptor<TypeDescriptor> captor = ArgumentCaptor.forClass(TypeDescriptor.class);
+		verify(conversionService, times(4)).convert(any(), captor.capture(), any(TypeDescriptor.class));
+
+		List<TypeDescriptor> descriptors = captor.getAllValues();
+
+		assertThat(descriptors.get(0).getType()).isEqualTo(StringBuilder.class);
+		assertThat(descriptors.get(1).getType()).isEqualTo(StringBuffer.class);
+		assertThat(descriptors.get(2)).isSameAs(descriptors.get(0));
+		assertThat(descriptors.get(3)).isSameAs(descriptors.get(1));
+	}
+
+	@Test
+	public void convertsValuesForGenericPropertiesDeclaredInSharedSuperclass() {
+
+		SampleMappingContext context = new SampleMappingContext();
+		SamplePersistentProperty longProperty = context.getRequiredPersistentEntity(LongValue.class)
+				.getRequiredPersistentProperty("value");
+		SamplePersistentProperty stringProperty = context.getRequiredPersistentEntity(StringValue.class)
+				.getRequiredPersistentProperty("value");
+
+		LongValue longValue = new LongValue();
+		StringValue stringValue = new StringValue();
+
+		getAccessor(longValue, CONVERSION_SERVICE).setProperty(longProperty, "1");
+		getAccessor(stringValue, CONVERSION_SERVICE).setProperty(stringProperty, "2");
+		getAccessor(stringValue, CONVERSION_SERVICE).setProperty(stringProperty, 3L);
+
+		assertThat(longValue.value).isEqualTo(1L);
+		assertThat(stringValue.value).isEqualTo("3");
+
+		getAccessor(stringValue, CONVERSION_SERVICE).setProperty(stringProperty, "4");
+		getAccessor(longValue, CONVERSION_SERVICE).setProperty(longProperty, "5");
+
+		assertThat(stringValue.value).isEqualTo("4");
+		assertThat(longValue.value).isEqualTo(5L);
+	}
+
 	private static ConvertingPropertyAccessor getAccessor(Object entity, ConversionService conversionService) {
 
 		PersistentPropertyAccessor wrapper = new BeanWrapper<>(entity);
@@ -114,14 +247,27 @@ public class ConvertingPropertyAccessorUnitTests {
 	}
 
 	private static SamplePersistentProperty getIdProperty() {
+		return getProperty("id");
+	}
+
+	private static SamplePersistentProperty getProperty(String name) {
 
 		SampleMappingContext mappingContext = new SampleMappingContext();
 		BasicPersistentEntity<Object, SamplePersistentProperty> entity = mappingContext
 				.getRequiredPersistentEntity(Entity.class);
-		return entity.getPersistentProperty("id");
+		return entity.getPersistentProperty(name);
 	}
 
 	static class Entity {
 		Long id;
+		int count;
 	}
+
+	static abstract class Base<T> {
+		T value;
+	}
+
+	static class LongValue extends Base<Long> {}
+
+	static class StringValue extends Base<String> {}
 }
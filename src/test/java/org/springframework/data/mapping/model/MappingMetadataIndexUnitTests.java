@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Unit tests for {@link MappingMetadataIndex} and {@link MappingMetadataIndexWriter}.
+ *
+ * @author agent
+ */
+public class MappingMetadataIndexUnitTests {
+
+	MappingMetadataIndexWriter writer = new MappingMetadataIndexWriter();
+
+	@Test
+	public void exposesIndexedPropertyDescriptors() {
+
+		PropertyDescriptor[] descriptors = createIndex(Person.class).getPropertyDescriptors(Person.class);
+		PropertyDescriptor[] expected = BeanUtils.getPropertyDescriptors(Person.class);
+
+		assertThat(descriptors).hasSameSizeAs(expected);
+
+		for (int i = 0; i < expected.length; i++) {
+
+			assertThat(descriptors[i].getName()).isEqualTo(expected[i].getName());
+			assertThat(descriptors[i].getReadMethod()).isEqualTo(expected[i].getReadMethod());
+			assertThat(descriptors[i].getWriteMethod()).isEqualTo(expected[i].getWriteMethod());
+		}
+	}
+
+	@Test
+	public void exposesIndexedConstructorParameterNames() throws Exception {
+
+		Constructor<Person> constructor = Person.class.getDeclaredConstructor(String.class, String[].class);
+
+		assertThat(createIndex(Person.class).getParameterNames(constructor)).containsExactly("firstname", "nicknames");
+	}
+
+	@Test
+	public void returnsNullForTypesNotIndexed() throws Exception {
+
+		MappingMetadataIndex index = createIndex(Person.class);
+
+		assertThat(index.getPropertyDescriptors(Other.class)).isNull();
+		assertThat(index.getParameterNames(Other.class.getDeclaredConstructor(String.class))).isNull();
+	}
+
+	@Test
+	public void returnsNullForStaleEntries() {
+
+		Properties properties = new Properties();
+		properties.put(MappingMetadataIndex.getDescriptorsKey(Person.class), "firstname:getFoo::");
+
+		assertThat(new MappingMetadataIndex(properties).getPropertyDescriptors(Person.class)).isNull();
+	}
+
+	@Test
+	public void returnsNullIfTypeChangedSinceIndexWasBuilt() throws Exception {
+
+		Properties properties = new Properties();
+		properties.putAll(writer.createEntries(Collections.singleton(Person.class)));
+		properties.put(MappingMetadataIndex.getSignatureKey(Person.class), MappingMetadataIndex.getSignature(Other.class));
+
+		MappingMetadataIndex index = new MappingMetadataIndex(properties);
+
+		assertThat(index.getPropertyDescriptors(Person.class)).isNull();
+		assertThat(index.getParameterNames(Person.class.getDeclaredConstructor(String.class, String[].class))).isNull();
+	}
+
+	@Test
+	public void returnsNullForEntriesWithoutSignature() throws Exception {
+
+		Properties properties = new Properties();
+		properties.putAll(writer.createEntries(Collections.singleton(Person.class)));
+		properties.remove(MappingMetadataIndex.getSignatureKey(Person.class));
+
+		MappingMetadataIndex index = new MappingMetadataIndex(properties);
+
+		assertThat(index.getPropertyDescriptors(Person.class)).isNull();
+		assertThat(index.getParameterNames(Person.class.getDeclaredConstructor(String.class, String[].class))).isNull();
+	}
+
+	@Test
+	public void doesNotIndexPropertiesResolvedAgainstGenerics() {
+
+		assertThat(writer.createEntries(Collections.singleton(StringValue.class)))
+				.doesNotContainKey(MappingMetadataIndex.getDescriptorsKey(StringValue.class));
+	}
+
+	@Test
+	public void writesIndexThatCanBeLoadedAsProperties() throws Exception {
+
+		File directory = Files.createTempDirectory("index").toFile();
+
+		try {
+
+			File file = writer.write(Collections.singleton(Person.class), directory);
+			Properties properties = new Properties();
+
+			try (InputStream stream = new FileInputStream(file)) {
+				properties.load(stream);
+			}
+
+			MappingMetadataIndex index = new MappingMetadataIndex(properties);
+
+			assertThat(index.isEmpty()).isFalse();
+			assertThat(index.getPropertyDescriptors(Person.class)).extracting(PropertyDescriptor::getName)
+					.containsExactlyElementsOf(Arrays.asList("class", "firstname", "nicknames"));
+
+		} finally {
+			FileSystemUtils.deleteRecursively(directory);
+		}
+	}
+
+	private MappingMetadataIndex createIndex(Class<?> type) {
+
+		Map<String, String> entries = writer.createEntries(Collections.singleton(type));
+		Properties properties = new Properties();
+		properties.putAll(entries);
+
+		return new MappingMetadataIndex(properties);
+	}
+
+	static class Person {
+
+		String firstname;
+		String[] nicknames;
+
+		public Person(String firstname, String[] nicknames) {
+			this.firstname = firstname;
+			this.nicknames = nicknames;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String[] getNicknames() {
+			return nicknames;
+		}
+
+		public void setNicknames(String[] nicknames) {
+			this.nicknames = nicknames;
+		}
+	}
+
+	static class Other {
+		public Other(String value) {}
+	}
+
+	static class GenericValue<T> {
+
+		T value;
+
+		public T getValue() {
+			return value;
+		}
+	}
+
+	static class StringValue extends GenericValue<String> {}
+}
@@ -16,9 +16,12 @@
 package org.springframework.data.mapping.model;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -82,6 +85,91 @@ public class PersistentEntityParameterValueProviderUnitTests<P extends Persisten
 						.withMessageContaining(Entity.class.getName()));
 	}
 
+	@Test
+	public void looksUpPropertiesOnlyOnceForMultipleInstantiations() {
+
+		AtomicInteger lookups = new AtomicInteger();
+
+		PersistentEntity<Pair, P> entity = new BasicPersistentEntity<Pair, P>(ClassTypeInformation.from(Pair.class)) {
+
+			@Override
+			public P getPersistentProperty(String name) {
+
+				lookups.incrementAndGet();
+				return property;
+			}
+		};
+
+		doReturn("value").when(propertyValueProvider).getPropertyValue(property);
+
+		List<Parameter<Object, P>> parameters = entity.getPersistenceConstructor().getParameters();
+
+		for (int i = 0; i < 3; i++) {
+
+			ParameterValueProvider<P> provider = new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider,
+					null);
+
+			assertThat(provider.getParameterValue(parameters.get(0))).isEqualTo("value");
+			assertThat(provider.getParameterValue(parameters.get(1))).isEqualTo("value");
+		}
+
+		assertThat(lookups.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void resolvesParametersRequestedOutOfOrder() {
+
+		PersistentEntity<Pair, P> entity = new BasicPersistentEntity<>(ClassTypeInformation.from(Pair.class));
+		ParameterValueProvider<P> provider = new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider,
+				null);
+
+		List<Parameter<Object, P>> parameters = entity.getPersistenceConstructor().getParameters();
+
+		assertThatExceptionOfType(MappingException.class)//
+				.isThrownBy(() -> provider.getParameterValue(parameters.get(1)))//
+				.withMessageContaining("second");
+		assertThatExceptionOfType(MappingException.class)//
+				.isThrownBy(() -> provider.getParameterValue(parameters.get(0)))//
+				.withMessageContaining("first");
+	}
+
+	@Test
+	public void resolvesParameterValuesByPlanIndex() {
+
+		Object outer = new Outer();
+
+		PersistentEntity<Inner, P> entity = new BasicPersistentEntity<Inner, P>(ClassTypeInformation.from(Inner.class)) {
+
+			@Override
+			public P getPersistentProperty(String name) {
+				return property;
+			}
+		};
+
+		doReturn("value").when(propertyValueProvider).getPropertyValue(property);
+
+		ConstructorParameterPlan<P> plan = ConstructorParameterPlan.of(entity);
+		ParameterValueProvider<P> provider = new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider,
+				outer);
+
+		assertThat(plan.getParameterValue(0, provider)).isEqualTo(outer);
+		assertThat(plan.getParameterValue(1, provider)).isEqualTo("value");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cachesPlansForCustomEntityImplementations() {
+
+		PersistentEntity<Pair, P> entity = mock(PersistentEntity.class);
+
+		doReturn(PreferredConstructorDiscoverer.discover(Pair.class)).when(entity).getPersistenceConstructor();
+
+		ConstructorParameterPlan<P> plan = ConstructorParameterPlan.of(entity);
+
+		assertThat(plan.getParameterCount()).isEqualTo(2);
+		assertThat(ConstructorParameterPlan.of(entity)).isSameAs(plan);
+	}
+
 	static class Outer {
 
 		class Inner {
@@ -102,4 +190,13 @@ public class PersistentEntityParameterValueProviderUnitTests<P extends Persisten
 
 		}
 	}
+
+	static class Pair {
+
+		Object first, second;
+
+		Pair(Object first, Object second) {
+
+		}
+	}
 }
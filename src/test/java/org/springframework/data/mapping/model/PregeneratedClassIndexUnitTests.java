@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PregeneratedClassIndex}.
+ *
+ * @author agent
+ */
+public class PregeneratedClassIndexUnitTests {
+
+	@Test
+	public void returnsEmptyIndexForBootstrapClassLoader() {
+
+		PregeneratedClassIndex index = PregeneratedClassIndex.forClassLoader(null);
+
+		assertThat(index.isEmpty()).isTrue();
+		assertThat(index.contains("com.acme.Person_Accessor_aot_0")).isFalse();
+	}
+
+	@Test
+	public void returnsEmptyIndexIfNoIndexResourcesArePresent() {
+		assertThat(PregeneratedClassIndex.forClassLoader(getClass().getClassLoader()).isEmpty()).isTrue();
+	}
+
+	@Test
+	public void containsListedClassesOnly() {
+
+		Properties entries = new Properties();
+		entries.setProperty("com.acme.Person_Accessor_aot_0", "com.acme.Person");
+
+		PregeneratedClassIndex index = new PregeneratedClassIndex(entries);
+
+		assertThat(index.isEmpty()).isFalse();
+		assertThat(index.contains("com.acme.Person_Accessor_aot_0")).isTrue();
+		assertThat(index.contains("com.acme.Person_Instantiator_aot_0")).isFalse();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+
+/**
+ * Unit tests for {@link SpELContext}.
+ *
+ * @author agent
+ */
+public class SpELContextUnitTests {
+
+	@Test
+	public void parsesExpressionsOnce() {
+
+		SpELContext context = new SpELContext(new ReflectivePropertyAccessor());
+
+		assertThat(context.getExpression("firstname")).isSameAs(context.getExpression("firstname"));
+	}
+
+	@Test
+	public void sharesParsedExpressionsWithCopies() {
+
+		SpELContext context = new SpELContext(new ReflectivePropertyAccessor());
+
+		assertThat(new SpELContext(context, mock(BeanFactory.class)).getExpression("firstname")).isSameAs(context.getExpression("firstname"));
+	}
+
+	@Test
+	public void evaluatesExpressionsInCompilerMode() {
+
+		SpELContext context = SpELContext.withCompilerMode(new ReflectivePropertyAccessor(), SpelCompilerMode.IMMEDIATE);
+		DefaultSpELExpressionEvaluator evaluator = new DefaultSpELExpressionEvaluator(new Person("Dave"), context);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(evaluator.<String> evaluate("firstname + '!'")).isEqualTo("Dave!");
+		}
+	}
+
+	public static class Person {
+
+		private final String firstname;
+
+		public Person(String firstname) {
+			this.firstname = firstname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+	}
+}
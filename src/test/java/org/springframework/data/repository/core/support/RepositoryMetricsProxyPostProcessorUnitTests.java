@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.SimpleRepositoryInvocationMetrics.MethodMetrics;
+
+/**
+ * Unit tests for {@link RepositoryMetricsProxyPostProcessor} and {@link SimpleRepositoryInvocationMetrics}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryMetricsProxyPostProcessorUnitTests {
+
+	@Mock RepositoryInformation information;
+
+	SimpleRepositoryInvocationMetrics metrics = new SimpleRepositoryInvocationMetrics();
+	SampleRepository repository;
+
+	@Before
+	public void setUp() {
+
+		doReturn(SampleRepository.class).when(information).getRepositoryInterface();
+
+		ProxyFactory factory = new ProxyFactory(new SampleRepositoryImpl());
+		factory.addInterface(SampleRepository.class);
+
+		new RepositoryMetricsProxyPostProcessor(metrics).postProcess(factory, information);
+
+		repository = (SampleRepository) factory.getProxy();
+	}
+
+	@Test
+	public void recordsInvocationsAndCollectionResultSize() throws Exception {
+
+		repository.findAll();
+		repository.findAll();
+
+		MethodMetrics methodMetrics = getMethodMetrics("findAll");
+
+		assertThat(methodMetrics.getInvocationCount()).isEqualTo(2);
+		assertThat(methodMetrics.getErrorCount()).isZero();
+		assertThat(methodMetrics.getSizedResultCount()).isEqualTo(2);
+		assertThat(methodMetrics.getResultElementCount()).isEqualTo(6);
+		assertThat(Arrays.stream(methodMetrics.getLatencyHistogram()).sum()).isEqualTo(2);
+		assertThat(methodMetrics.getMaxTime()).isLessThanOrEqualTo(methodMetrics.getTotalTime());
+		assertThat(methodMetrics.getLatencyPercentile(1)).isGreaterThanOrEqualTo(methodMetrics.getMaxTime());
+	}
+
+	@Test
+	public void recordsSliceResultSize() throws Exception {
+
+		repository.findSlice();
+
+		assertThat(getMethodMetrics("findSlice").getResultElementCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void recordsStreamResultSizeOnClose() throws Exception {
+
+		try (Stream<String> stream = repository.stream()) {
+
+			assertThat(stream).containsExactly("a", "b");
+			assertThat(getMethodMetrics("stream").getSizedResultCount()).isZero();
+		}
+
+		assertThat(getMethodMetrics("stream").getInvocationCount()).isEqualTo(1);
+		assertThat(getMethodMetrics("stream").getResultElementCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void recordsConsumedElementsOfPartiallyConsumedStream() throws Exception {
+
+		try (Stream<String> stream = repository.stream()) {
+			assertThat(stream.findFirst()).hasValue("a");
+		}
+
+		assertThat(getMethodMetrics("stream").getResultElementCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void recordsErrors() throws Exception {
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> repository.fail());
+
+		MethodMetrics methodMetrics = getMethodMetrics("fail");
+
+		assertThat(methodMetrics.getInvocationCount()).isEqualTo(1);
+		assertThat(methodMetrics.getErrorCount()).isEqualTo(1);
+	}
+
+	private MethodMetrics getMethodMetrics(String name) throws Exception {
+		return metrics.getMethodMetrics(SampleRepository.class, SampleRepository.class.getMethod(name));
+	}
+
+	interface SampleRepository extends Repository<Object, Long> {
+
+		List<String> findAll();
+
+		Slice<String> findSlice();
+
+		Stream<String> stream();
+
+		String fail();
+	}
+
+	static class SampleRepositoryImpl implements SampleRepository {
+
+		@Override
+		public List<String> findAll() {
+			return Arrays.asList("a", "b", "c");
+		}
+
+		@Override
+		public Slice<String> findSlice() {
+			return new PageImpl<>(Arrays.asList("a", "b"));
+		}
+
+		@Override
+		public Stream<String> stream() {
+			return Stream.of("a", "b");
+		}
+
+		@Override
+		public String fail() {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,10 +28,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -221,6 +227,99 @@ public class ExtensionAwareEvaluationContextProviderUnitTests {
 		assertThat(counter.get()).isEqualTo(2);
 	}
 
+	@Test
+	public void doesNotPopulateExtensionsForExpressionsNotReferringToThem() {
+
+		AtomicInteger first = new AtomicInteger();
+		AtomicInteger second = new AtomicInteger();
+
+		this.provider = new ExtensionAwareEvaluationContextProvider(Arrays.asList( //
+				new CountingExtension("_first", "first", first), //
+				new CountingExtension("_second", "second", second)));
+
+		assertThat(evaluateExpression("[0]")).isEqualTo("parameterValue");
+		assertThat(evaluateExpression("#firstname")).isEqualTo("parameterValue");
+
+		assertThat(first.get()).isZero();
+		assertThat(second.get()).isZero();
+	}
+
+	@Test
+	public void resolvesExtensionPropertiesAndFunctionsWithinSelectionsAndProjections() {
+
+		this.provider = new ExtensionAwareEvaluationContextProvider(
+				Collections.singletonList(new DummyExtension("_first", "first")));
+
+		Object[] args = new Object[] { Arrays.asList("first", "second") };
+
+		assertThat(evaluateExpression("[0].?[#this == key]", args)).isEqualTo(Collections.singletonList("first"));
+		assertThat(evaluateExpression("[0].?[extensionMethod() == 'methodResult']", args))
+				.isEqualTo(Arrays.asList("first", "second"));
+		assertThat(evaluateExpression("[0].![key]", args)).isEqualTo(Arrays.asList("first", "first"));
+		assertThat(evaluateExpression("[0].![aliasedMethod()]", args)) //
+				.isEqualTo(Arrays.asList("methodResult", "methodResult"));
+	}
+
+	@Test
+	public void onlyPopulatesExtensionsUntilPropertyIsFound() {
+
+		AtomicInteger first = new AtomicInteger();
+		AtomicInteger second = new AtomicInteger();
+
+		this.provider = new ExtensionAwareEvaluationContextProvider(Arrays.asList( //
+				new CountingExtension("_first", "first", first), //
+				new CountingExtension("_second", "second", second)));
+
+		assertThat(evaluateExpression("key")).isEqualTo("second");
+
+		assertThat(first.get()).isZero();
+		assertThat(second.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void concurrentEvaluationsLookUpExtensionsOnlyOnce() throws Exception {
+
+		ApplicationContext context = mock(ApplicationContext.class);
+		when(context.getBeansOfType(EvaluationContextExtension.class, true, false)) //
+				.thenReturn(Collections.<String, EvaluationContextExtension> singletonMap("extension",
+						new DummyExtension("_first", "first")));
+
+		ExtensionAwareEvaluationContextProvider provider = new ExtensionAwareEvaluationContextProvider();
+		provider.setApplicationContext(context);
+		this.provider = provider;
+
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<Object>> results = new ArrayList<>();
+
+			for (int i = 0; i < 1000; i++) {
+
+				String expression = i % 3 == 0 ? "key" : i % 3 == 1 ? "_first.extensionMethod()" : "[0]";
+
+				results.add(executor.submit(() -> {
+					start.await();
+					return evaluateExpression(expression);
+				}));
+			}
+
+			start.countDown();
+
+			for (int i = 0; i < results.size(); i++) {
+
+				Object expected = i % 3 == 0 ? "first" : i % 3 == 1 ? "methodResult" : "parameterValue";
+				assertThat(results.get(i).get()).isEqualTo(expected);
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(context, times(1)).getBeansOfType(EvaluationContextExtension.class, true, false);
+	}
+
 	@Test // DATACMNS-1026
 	public void overloadedMethodsGetResolved() throws Exception {
 
@@ -351,6 +450,28 @@ public class ExtensionAwareEvaluationContextProviderUnitTests {
 		}
 	}
 
+	static class CountingExtension extends DummyExtension {
+
+		private final AtomicInteger counter;
+
+		CountingExtension(String key, String value, AtomicInteger counter) {
+
+			super(key, value);
+			this.counter = counter;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.spi.EvaluationContextExtensionSupport#getRootObject()
+		 */
+		@Override
+		public Object getRootObject() {
+
+			counter.incrementAndGet();
+			return super.getRootObject();
+		}
+	}
+
 	private Object evaluateExpression(String expression) {
 		return evaluateExpression(expression, new Object[] { "parameterValue" });
 	}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.query.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MethodNameTokenizer}.
+ *
+ * @author agent
+ */
+public class MethodNameTokenizerUnitTests {
+
+	@Test
+	public void detectsSubject() {
+
+		assertThat(MethodNameTokenizer.detectSubject("findByFirstname")).isEqualTo("findBy");
+		assertThat(MethodNameTokenizer.detectSubject("findDistinctUserByNameOrderByAge")).isEqualTo("findDistinctUserBy");
+		assertThat(MethodNameTokenizer.detectSubject("deleteAllByName")).isEqualTo("deleteAllBy");
+		assertThat(MethodNameTokenizer.detectSubject("finderByName")).isNull();
+		assertThat(MethodNameTokenizer.detectSubject("firstname")).isNull();
+	}
+
+	@Test
+	public void detectsMaxResults() {
+
+		assertThat(MethodNameTokenizer.detectMaxResults("findTop10By")).isEqualTo(10);
+		assertThat(MethodNameTokenizer.detectMaxResults("findDistinctFirstUsersBy")).isEqualTo(1);
+		assertThat(MethodNameTokenizer.detectMaxResults("findTopperBy")).isNull();
+		assertThat(MethodNameTokenizer.detectMaxResults("countTop10By")).isNull();
+	}
+
+	@Test
+	public void splitsLikeKeywordPattern() {
+
+		Pattern pattern = Pattern.compile("(Or)(?=(\\p{Lu}|\\P{InBASIC_LATIN}))");
+
+		for (String source : new String[] { "FirstnameOrLastname", "OrderOrName", "NameOr", "OrName", "Or", "Order",
+				"名前Or名前", "NameOr名前", "" }) {
+			assertThat(MethodNameTokenizer.split(source, "Or")).as(source).containsExactly(pattern.split(source));
+		}
+	}
+
+	@Test
+	public void removesFirstToken() {
+
+		assertThat(MethodNameTokenizer.removeFirst("NameIgnoringCase", "IgnoreCase", "IgnoringCase")).isEqualTo("Name");
+		assertThat(MethodNameTokenizer.removeFirst("Name", "IgnoreCase", "IgnoringCase")).isNull();
+	}
+}
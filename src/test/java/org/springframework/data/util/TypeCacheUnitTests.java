@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.core.OverridingClassLoader;
+
+/**
+ * Unit tests for {@link TypeCache}.
+ *
+ * @author agent
+ */
+public class TypeCacheUnitTests {
+
+	@Test
+	public void computesValueOncePerType() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		TypeCache<String> cache = TypeCache.of(type -> {
+			invocations.incrementAndGet();
+			return type.getSimpleName();
+		});
+
+		assertThat(cache.get(String.class)).isEqualTo("String");
+		assertThat(cache.get(String.class)).isEqualTo("String");
+		assertThat(cache.get(Integer.class)).isEqualTo("Integer");
+		assertThat(invocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void recomputesValueAfterEviction() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		TypeCache<Integer> cache = TypeCache.of(type -> invocations.incrementAndGet());
+
+		assertThat(cache.get(String.class)).isEqualTo(1);
+
+		cache.evict(String.class);
+
+		assertThat(cache.get(String.class)).isEqualTo(2);
+	}
+
+	@Test
+	public void keepsValuesOfDifferentCachesSeparate() {
+
+		TypeCache<String> first = TypeCache.of(type -> "first");
+		TypeCache<String> second = TypeCache.of(type -> "second");
+
+		assertThat(first.get(String.class)).isEqualTo("first");
+		assertThat(second.get(String.class)).isEqualTo("second");
+	}
+
+	@Test
+	public void rejectsNullValues() {
+
+		TypeCache<String> cache = TypeCache.of(type -> null);
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> cache.get(String.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullType() {
+		TypeCache.of(Class::getName).get(null);
+	}
+
+	@Test
+	public void cachesValuesForTypesOfChildClassLoaders() throws Exception {
+
+		Class<?> type = new OverridingClassLoader(getClass().getClassLoader()).loadClass(Sample.class.getName());
+
+		assertThat(type).isNotEqualTo(Sample.class);
+
+		AtomicInteger invocations = new AtomicInteger();
+		TypeCache<Integer> cache = TypeCache.of(it -> invocations.incrementAndGet());
+
+		assertThat(cache.get(type)).isEqualTo(1);
+		assertThat(cache.get(type)).isEqualTo(1);
+		assertThat(cache.get(Sample.class)).isEqualTo(2);
+
+		cache.evict(type);
+
+		assertThat(cache.get(type)).isEqualTo(3);
+	}
+
+	@Test
+	public void doesNotPinClassLoaderThroughTypesOfParentClassLoaders() throws Exception {
+
+		ClassLoader classLoader = new OverridingClassLoader(getClass().getClassLoader());
+		Class<?> holder = classLoader.loadClass(CacheHolder.class.getName());
+		Object value = holder.getMethod("lookup", Class.class).invoke(null, String.class);
+
+		assertThat(value.getClass().getClassLoader()).isSameAs(classLoader);
+
+		WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+
+		classLoader = null;
+		holder = null;
+		value = null;
+
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		assertThat(reference.get()).isNull();
+	}
+
+	static class Sample {}
+
+	public static class CacheHolder {
+
+		static final TypeCache<Object> CACHE = TypeCache.of(type -> new Sample());
+
+		public static Object lookup(Class<?> type) {
+			return CACHE.get(type);
+		}
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.util.ClassTypeInformation.*;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Collection;
@@ -158,6 +159,34 @@ public class TypeDiscovererUnitTests {
 		});
 	}
 
+	@Test
+	public void returnsSameInstanceForRepeatedlyResolvedGenericTypes() throws Exception {
+
+		TypeInformation<GenericReturnTypes> information = from(GenericReturnTypes.class);
+		Method method = GenericReturnTypes.class.getMethod("getMap");
+
+		TypeInformation<?> returnType = information.getReturnType(method);
+
+		assertThat(information.getReturnType(method)).isSameAs(returnType);
+		assertThat(returnType.getTypeArguments().get(1)).isSameAs(returnType.getTypeArguments().get(1));
+		assertThat(returnType.getTypeArguments().get(1).getTypeArguments()).containsExactly(from(Locale.class));
+	}
+
+	@Test
+	public void memoizesDerivedTypeInformation() throws Exception {
+
+		TypeInformation<CustomMap> information = from(CustomMap.class);
+		Method method = GenericReturnTypes.class.getMethod("getMap");
+
+		assertThat(information.getSuperTypeInformation(Map.class)).isSameAs(information.getSuperTypeInformation(Map.class));
+		assertThat(information.getParameterTypes(method)).isSameAs(information.getParameterTypes(method));
+
+		TypeInformation<?> mapType = information.getRequiredSuperTypeInformation(Map.class);
+
+		assertThat(mapType.getTypeArguments()).isSameAs(mapType.getTypeArguments());
+		assertThat(mapType.getTypeArguments()).containsExactly(from(String.class), from(Locale.class));
+	}
+
 	class Person {
 
 		Addresses addresses;
@@ -181,6 +210,11 @@ public class TypeDiscovererUnitTests {
 		Map<String, SelfReferencingMap> map;
 	}
 
+	interface GenericReturnTypes {
+
+		Map<String, List<Locale>> getMap();
+	}
+
 	interface CustomMap extends Map<String, Locale> {
 
 	}
@@ -28,6 +28,7 @@ import org.springframework.data.mapping.context.SamplePersistentProperty
 import org.springframework.data.mapping.model.MappingInstantiationException
 import org.springframework.data.mapping.model.ParameterValueProvider
 import org.springframework.data.mapping.model.PreferredConstructorDiscoverer
+import org.springframework.data.util.ClassTypeInformation
 import java.lang.IllegalArgumentException
 
 /**
@@ -51,6 +52,7 @@ class KotlinClassGeneratingEntityInstantiatorUnitTests {
 		doReturn("Walter", "White").`when`(provider).getParameterValue<SamplePersistentProperty>(any())
 		doReturn(constructor).whenever(entity).persistenceConstructor
 		doReturn(constructor.constructor.declaringClass).whenever(entity).type
+		doReturn(ClassTypeInformation.from(constructor.constructor.declaringClass)).whenever(entity).typeInformation
 
 		val instance: Contact = KotlinClassGeneratingEntityInstantiator().createInstance(entity, provider)
 
@@ -70,6 +72,7 @@ class KotlinClassGeneratingEntityInstantiatorUnitTests {
 				null, "Walter", null, "Junior", null).`when`(provider).getParameterValue<SamplePersistentProperty>(any())
 		doReturn(constructor).whenever(entity).persistenceConstructor
 		doReturn(constructor.constructor.declaringClass).whenever(entity).type
+		doReturn(ClassTypeInformation.from(constructor.constructor.declaringClass)).whenever(entity).typeInformation
 
 		val instance: ContactWithDefaulting = KotlinClassGeneratingEntityInstantiator().createInstance(entity, provider)
 
@@ -89,6 +92,7 @@ class KotlinClassGeneratingEntityInstantiatorUnitTests {
 
 		doReturn(constructor).whenever(entity).persistenceConstructor
 		doReturn(constructor.constructor.declaringClass).whenever(entity).type
+		doReturn(ClassTypeInformation.from(constructor.constructor.declaringClass)).whenever(entity).typeInformation
 
 		Assertions.assertThatThrownBy { KotlinClassGeneratingEntityInstantiator().createInstance(entity, provider) } //
 				.isInstanceOf(MappingInstantiationException::class.java) //
@@ -104,6 +108,7 @@ class KotlinClassGeneratingEntityInstantiatorUnitTests {
 
 		doReturn(constructor).whenever(entity).persistenceConstructor
 		doReturn(constructor.constructor.declaringClass).whenever(entity).type
+		doReturn(ClassTypeInformation.from(constructor.constructor.declaringClass)).whenever(entity).typeInformation
 
 		val instance: WithPrimitiveDefaulting = KotlinClassGeneratingEntityInstantiator().createInstance(entity, provider)
 